@@ -0,0 +1,13 @@
+package examples;
+
+import com.tsys.utils.FailureReporter;
+
+//the reporter shared by the examples: prints at most 10 failures a second of each exception class.
+class Failures {
+    static final FailureReporter reporter = FailureReporter.of(record -> {
+        System.err.println(record);
+        record.throwable().printStackTrace();
+    }, 10, 10, 1024);
+
+    private Failures() { }
+}
@@ -3,13 +3,16 @@ package examples;
 import com.tsys.utils.BiConsumerThrowsException;
 import com.tsys.utils.BiFunctionThrowsException;
 import com.tsys.utils.ConsumerThrowsException;
+import com.tsys.utils.Try;
 
 import java.io.Serializable;
 import java.sql.ResultSet;
+import java.time.Duration;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.Executor;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
@@ -49,6 +52,11 @@ public class ParallelStreams {
         }
     }
 
+    //gives up on expensiveSquare, and interrupts it, once the timeout passes.
+    static Try<Double> expensiveSquare(Double number, Duration timeout, Executor executor) {
+        return Try.withTimeout(() -> expensiveSquare(number), timeout, executor);
+    }
+
     static Stream<Integer> naturals(int from) {
         assert from >= 0;
 
@@ -194,20 +202,22 @@ class Resource implements AutoCloseable {
         System.out.println("Resource.close [" + name + "]");
     }
 
-    public static void use(String name, ConsumerThrowsException<Resource, Exception> consumer) {
-        try (Resource resource = new Resource(name)) {
+    public static Try<Void> use(String name, ConsumerThrowsException<Resource, Exception> consumer) {
+        Try<Void> used = Try.withResources(() -> new Resource(name), resource -> {
             consumer.accept(resource);
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+            return null;
+        });
+        Failures.reporter.report(used);
+        return used;
     }
-    public static void use2(String name1, String name2, BiConsumerThrowsException<Resource, Resource, Exception> consumer) {
-        try (Resource resource1 = new Resource(name1)) {
-            try(Resource resource2 = new Resource(name2))  {
-                consumer.accept(resource1, resource2);
-            }
-        } catch (Exception e) {
-            e.printStackTrace();
-        }
+
+    //resource2 is closed before resource1, a failure to close either is suppressed by a failure of the consumer.
+    public static Try<Void> use2(String name1, String name2, BiConsumerThrowsException<Resource, Resource, Exception> consumer) {
+        Try<Void> used = Try.withResources(() -> new Resource(name1), () -> new Resource(name2), (resource1, resource2) -> {
+            consumer.accept(resource1, resource2);
+            return null;
+        });
+        Failures.reporter.report(used);
+        return used;
     }
 }
@@ -1,6 +1,7 @@
 package examples;
 
 import com.tsys.utils.Try;
+import com.tsys.utils.TryPipeline;
 
 import java.util.function.Supplier;
 
@@ -50,5 +51,14 @@ public class RecoveryExamples {
                 .recoverWith(t -> Try.with(nextValue));
         System.out.println("answer4 = " + answer4);
 
+        //The same chain built once as a pipeline and applied to many inputs
+        final TryPipeline<Integer, Integer> pipeline = TryPipeline.<Integer>identity()
+                .map(x -> 2 / x)
+                .recover(t -> 2)
+                .map(x -> x * 4)
+                .recover(t -> 4);
+        System.out.println("answer5 = " + pipeline.apply(0));
+        System.out.println("answer6 = " + pipeline.apply(1));
+
     }
 }
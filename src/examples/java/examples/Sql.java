@@ -1,10 +1,14 @@
 package examples;
 
+import com.tsys.utils.CircuitBreaker;
 import com.tsys.utils.ConsumerThrowsException;
 import com.tsys.utils.FunctionThrowsException;
 import com.tsys.utils.Try;
+import com.tsys.utils.TryFuture;
+import com.tsys.utils.TryPool;
 
 import java.sql.*;
+import java.util.concurrent.Executor;
 
 public class Sql {
 
@@ -23,16 +27,56 @@ public class Sql {
            .flatMap(s -> Try.with(execute, s));
     }
 
-    public static void execute(String dburl, String sql, ConsumerThrowsException<ResultSet, SQLException> consumer) {
-        try (Connection connection = DriverManager.getConnection(dburl)) {
+    //same as execute, but fails fast without waiting for a connection timeout while the database is down.
+    public static Try<ResultSet> execute(CircuitBreaker breaker, String url, String sql) {
+        FunctionThrowsException<String, Connection, SQLException> getConnection = DriverManager::getConnection;
+        FunctionThrowsException<Connection, Statement, SQLException> createStatement = Connection::createStatement;
+        FunctionThrowsException<Statement, ResultSet, SQLException> execute =
+                s -> {
+                    s.execute(sql);
+                    return s.getResultSet();
+                };
+
+        return breaker.with(getConnection, url)
+           .flatMap(c -> Try.with(createStatement, c))
+           .flatMap(s -> Try.with(execute, s));
+    }
+
+    //same as execute, without tying up the calling thread while the connection and query are in flight.
+    public static TryFuture<ResultSet> executeAsync(String url, String sql, Executor executor) {
+        FunctionThrowsException<String, Connection, SQLException> getConnection = DriverManager::getConnection;
+        FunctionThrowsException<Statement, ResultSet, SQLException> execute =
+                s -> {
+                    s.execute(sql);
+                    return s.getResultSet();
+                };
+
+        return TryFuture.with(getConnection, url, executor)
+           .map(Connection::createStatement, executor)
+           .map(execute, executor);
+    }
+
+    //closing the statement closes its resultset, the connection is closed last.
+    public static Try<Void> execute(String dburl, String sql, ConsumerThrowsException<ResultSet, SQLException> consumer) {
+        Try<Void> executed = Try.withResources(() -> DriverManager.getConnection(dburl), Connection::createStatement, (connection, statement) -> {
+            statement.execute(sql);
+            consumer.accept(statement.getResultSet());
+            return null;
+        });
+        Failures.reporter.report(executed);
+        return executed;
+    }
+
+    //same as execute, on a pooled connection instead of a new one per query.
+    public static Try<Void> execute(TryPool<Connection> connections, String sql, ConsumerThrowsException<ResultSet, SQLException> consumer) {
+        Try<Void> executed = connections.withResource(connection -> {
             try (Statement statement = connection.createStatement()) {
                 statement.execute(sql);
-                try (ResultSet resultSet = statement.getResultSet()) {
-                    consumer.accept(resultSet);
-                }
+                consumer.accept(statement.getResultSet());
             }
-        } catch (SQLException e) {
-            e.printStackTrace();
-        }
+            return null;
+        });
+        Failures.reporter.report(executed);
+        return executed;
     }
 }
@@ -29,6 +29,17 @@ public class TryExample {
     }
 
 
+    //same as divide, but gives up after the given number of attempts instead of asking forever.
+    static Try<Integer> divide(int attempts) {
+        SupplierThrowsException<Integer, NumberFormatException> division = () -> {
+            int dividend = Integer.parseInt(readKeyboard("Enter an Int that you'd like to divide:"));
+            int divisor = Integer.parseInt(readKeyboard("Enter an Int that you'd like to divide by:"));
+            return dividend / divisor;
+        };
+        return Try.retry(division, RetryPolicy.maxAttempts(attempts));
+    }
+
+
     public static void main(String[] args) {
         divide().forEach(System.out::println);
 
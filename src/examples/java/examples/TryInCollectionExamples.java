@@ -65,6 +65,12 @@ public class TryInCollectionExamples {
                 .collect(Collectors.toList());
         System.out.println("mapped = " + mapped);
 
+        //Example: successes and failures partitioned in a single pass
+        TryCollectors.Partition<String> partition = Arrays.asList("Hello", null, "dance").stream()
+                .map(s -> Try.with((FunctionThrowsException<String, String, Exception>) TryInCollectionExamples::capitalize, s))
+                .collect(TryCollectors.partitioning());
+        System.out.println("partition = " + partition);
+
         //Example: FunctionThrowingException encapsulated in Try, map
         List<Try<String>> mapEncapsulated = Arrays.asList("Hello", null, "dance").stream()
                 .map(s -> TryInCollectionExamples.prefixCapitalize("--> ", s))
@@ -0,0 +1,44 @@
+package com.tsys.utils;
+
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+import java.util.Random;
+
+/**
+ * Inputs shared by the benchmarks: a batch of strings of which `failurePercent`
+ * do not parse as an int, and the same batch already wrapped in a `Try`.
+ */
+@State(Scope.Benchmark)
+public class BenchmarkInputs {
+
+    public static final int SIZE = 1024;
+
+    @Param({"0", "50"})
+    public int failurePercent;
+
+    public String[] strings;
+
+    public Try<Integer>[] tries;
+
+    @Setup(Level.Trial)
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp() {
+        final Random random = new Random(42);
+        strings = new String[SIZE];
+        tries = new Try[SIZE];
+        for (int i = 0; i < SIZE; i++) {
+            final boolean fails = random.nextInt(100) < failurePercent;
+            strings[i] = fails ? "not-a-number" : Integer.toString(random.nextInt(1000));
+            final String s = strings[i];
+            tries[i] = Try.with((SupplierThrowsException<Integer, NumberFormatException>) () -> Integer.parseInt(s));
+        }
+    }
+
+    static int parse(String s) throws Exception {
+        return Integer.parseInt(s);
+    }
+}
@@ -0,0 +1,66 @@
+package com.tsys.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+/**
+ * Cost of `Failure.recover`, `recoverWith` and `transform` over a batch where `failurePercent`
+ * of the tries are failures, compared to recovering in a hand-written catch block.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FailureBenchmark {
+
+    private static final Integer DEFAULT = -1;
+    private static final Try<Integer> RECOVERED = new Success<>(DEFAULT);
+    private static final Function<Integer, Try<Integer>> unchanged = Success::new;
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void baselineRecover(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            try {
+                bh.consume(Integer.parseInt(s));
+            } catch (NumberFormatException e) {
+                bh.consume(DEFAULT);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void recover(BenchmarkInputs inputs, Blackhole bh) {
+        for (Try<Integer> t : inputs.tries) {
+            bh.consume(t.recover(e -> DEFAULT));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void recoverWith(BenchmarkInputs inputs, Blackhole bh) {
+        for (Try<Integer> t : inputs.tries) {
+            bh.consume(t.recoverWith(e -> RECOVERED));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void transform(BenchmarkInputs inputs, Blackhole bh) {
+        for (Try<Integer> t : inputs.tries) {
+            bh.consume(t.transform(unchanged, e -> RECOVERED));
+        }
+    }
+}
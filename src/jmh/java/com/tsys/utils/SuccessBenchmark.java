@@ -0,0 +1,89 @@
+package com.tsys.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Cost of `Success.map`, `flatMap` and `filter` compared to the equivalent hand-written code.
+ * The mapping function throws (and the predicate rejects) for `failurePercent` of the inputs.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SuccessBenchmark {
+
+    private static final FunctionThrowsException<String, Integer, Exception> parseChecked = BenchmarkInputs::parse;
+
+    private Try<String>[] successes;
+
+    @Setup
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    public void setUp(BenchmarkInputs inputs) {
+        successes = new Try[inputs.strings.length];
+        for (int i = 0; i < successes.length; i++) {
+            successes[i] = new Success<>(inputs.strings[i]);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void baselineMap(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            try {
+                bh.consume(Integer.parseInt(s));
+            } catch (NumberFormatException e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void map(Blackhole bh) {
+        for (Try<String> success : successes) {
+            bh.consume(success.map(Integer::parseInt));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void flatMap(Blackhole bh) {
+        for (Try<String> success : successes) {
+            bh.consume(success.flatMap(s -> Try.with(parseChecked, s)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void baselineFilter(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            if (Character.isDigit(s.charAt(0)))
+                bh.consume(s);
+            else
+                bh.consume(null);
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void filter(Blackhole bh) {
+        for (Try<String> success : successes) {
+            bh.consume(success.filter(s -> Character.isDigit(s.charAt(0))));
+        }
+    }
+}
@@ -0,0 +1,132 @@
+package com.tsys.utils;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.BiFunction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * Cost of every `Try.with` overload compared to the equivalent hand-written try/catch.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TryWithBenchmark {
+
+    private static final FunctionThrowsException<String, Integer, Exception> parseChecked = BenchmarkInputs::parse;
+    private static final Function<String, Integer> parse = Integer::parseInt;
+    private static final PredicateThrowsException<String, Exception> positiveChecked = s -> BenchmarkInputs.parse(s) >= 0;
+    private static final Predicate<String> positive = s -> Integer.parseInt(s) >= 0;
+    private static final ConsumerThrowsException<String, Exception> validateChecked = BenchmarkInputs::parse;
+    private static final Consumer<String> validate = Integer::parseInt;
+    private static final BiFunctionThrowsException<String, Integer, Integer, Exception> parseRadixChecked =
+            (s, radix) -> Integer.parseInt(s, radix);
+    private static final BiFunction<String, Integer, Integer> parseRadix = Integer::parseInt;
+    private static final Integer RADIX = 10;
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void baselineTryCatch(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            try {
+                bh.consume(BenchmarkInputs.parse(s));
+            } catch (Exception e) {
+                bh.consume(e);
+            }
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withSupplierThrowsException(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with((SupplierThrowsException<Integer, Exception>) () -> BenchmarkInputs.parse(s)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withSupplier(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with((Supplier<Integer>) () -> Integer.parseInt(s)));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withFunctionThrowsException(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(parseChecked, s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withFunction(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(parse, s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withPredicateThrowsException(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(positiveChecked, s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withPredicate(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(positive, s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withConsumerThrowsException(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(validateChecked, s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withConsumer(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(validate, s));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withBiFunctionThrowsException(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(parseRadixChecked, s, RADIX));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BenchmarkInputs.SIZE)
+    public void withBiFunction(BenchmarkInputs inputs, Blackhole bh) {
+        for (String s : inputs.strings) {
+            bh.consume(Try.with(parseRadix, s, RADIX));
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.tsys.utils;
+
+import java.util.BitSet;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+/**
+ * The outcome of applying one function to every element of an array, see `Try.withBatch`.
+ *
+ * Rather than one `Try` per element, the outcomes are kept in columns: an array of values,
+ * a `BitSet` of the indices that failed and a sparse map from those indices to their exceptions.
+ * A `Try` of a single element can still be had with `toTry`.
+ */
+public final class BatchResult<R> {
+
+    /**
+     * Arrays of at least this many elements are split across the common fork-join pool.
+     */
+    static final int PARALLEL_THRESHOLD = 8192;
+
+    private final Object[] values;
+    private final BitSet failed;
+    private final Map<Integer, Throwable> failures;
+
+    private BatchResult(final Object[] values, final Map<Integer, Throwable> failures) {
+        this.values = values;
+        this.failures = failures;
+        this.failed = new BitSet(values.length);
+        for (Integer index : failures.keySet()) {
+            failed.set(index);
+        }
+    }
+
+    static<T, R, E extends Throwable> BatchResult<R> of(final FunctionThrowsException<? super T, ? extends R, E> fte,
+                                                         final T[] inputs) {
+        final Object[] values = new Object[inputs.length];
+        final Map<Integer, Throwable> failures =
+                inputs.length >= PARALLEL_THRESHOLD && ForkJoinPool.getCommonPoolParallelism() > 1
+                        ? ForkJoinPool.commonPool().invoke(new Slice<>(fte, inputs, values, 0, inputs.length))
+                        : apply(fte, inputs, values, 0, inputs.length);
+        return new BatchResult<>(values, failures == null ? Collections.emptyMap() : failures);
+    }
+
+    /**
+     * Returns the number of elements.
+     */
+    public int size() {
+        return values.length;
+    }
+
+    public boolean isSuccess(final int index) {
+        checkIndex(index);
+        return !failed.get(index);
+    }
+
+    public boolean isFailure(final int index) {
+        checkIndex(index);
+        return failed.get(index);
+    }
+
+    /**
+     * Returns the value at `index` or throws its exception, the way `Failure.get` does, if it failed.
+     */
+    @SuppressWarnings("unchecked")
+    public R get(final int index) {
+        if (isFailure(index))
+            throw Failure.raise(failures.get(index), Try.failureMode());
+
+        return (R) values[index];
+    }
+
+    /**
+     * Returns the exception at `index`, or `null` if it succeeded.
+     */
+    public Throwable failure(final int index) {
+        checkIndex(index);
+        return failures.get(index);
+    }
+
+    /**
+     * Returns the outcome at `index` as a `Try`.
+     */
+    @SuppressWarnings("unchecked")
+    public Try<R> toTry(final int index) {
+        return isFailure(index) ? new Failure<>(failures.get(index)) : Success.valueOf((R) values[index]);
+    }
+
+    /**
+     * Returns a copy of the indices that failed.
+     */
+    public BitSet failedIndices() {
+        return (BitSet) failed.clone();
+    }
+
+    /**
+     * Returns the exceptions by the index they failed at.
+     */
+    public Map<Integer, Throwable> failures() {
+        return Collections.unmodifiableMap(failures);
+    }
+
+    public int failureCount() {
+        return failures.size();
+    }
+
+    public int successCount() {
+        return values.length - failures.size();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("BatchResult(size=%d, failures=%d)", values.length, failures.size());
+    }
+
+    private void checkIndex(final int index) {
+        if (index < 0 || index >= values.length)
+            throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + values.length);
+    }
+
+    private static<T, R, E extends Throwable> Map<Integer, Throwable> apply(final FunctionThrowsException<? super T, ? extends R, E> fte,
+                                                                            final T[] inputs, final Object[] values,
+                                                                            final int from, final int to) {
+        Map<Integer, Throwable> failures = null;
+        for (int i = from; i < to; i++) {
+            try {
+                values[i] = fte.apply(inputs[i]);
+            } catch (Throwable t) {
+                if (Try.fatal(t)) {
+                    throw new RuntimeException(t);
+                }
+                if (failures == null) {
+                    failures = new HashMap<>();
+                }
+                failures.put(i, t);
+            }
+        }
+        return failures;
+    }
+
+    private static final class Slice<T, R, E extends Throwable> extends RecursiveTask<Map<Integer, Throwable>> {
+        private static final long serialVersionUID = 1L;
+
+        private final FunctionThrowsException<? super T, ? extends R, E> fte;
+        private final T[] inputs;
+        private final Object[] values;
+        private final int from;
+        private final int to;
+
+        private Slice(final FunctionThrowsException<? super T, ? extends R, E> fte, final T[] inputs,
+                      final Object[] values, final int from, final int to) {
+            this.fte = fte;
+            this.inputs = inputs;
+            this.values = values;
+            this.from = from;
+            this.to = to;
+        }
+
+        @Override
+        protected Map<Integer, Throwable> compute() {
+            if (to - from <= PARALLEL_THRESHOLD) {
+                return apply(fte, inputs, values, from, to);
+            }
+            final int middle = (from + to) >>> 1;
+            final Slice<T, R, E> left = new Slice<>(fte, inputs, values, from, middle);
+            left.fork();
+            final Map<Integer, Throwable> right = new Slice<>(fte, inputs, values, middle, to).compute();
+            final Map<Integer, Throwable> joined = left.join();
+            if (joined == null)
+                return right;
+
+            if (right != null)
+                joined.putAll(right);
+
+            return joined;
+        }
+    }
+}
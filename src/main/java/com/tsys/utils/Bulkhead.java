@@ -0,0 +1,223 @@
+package com.tsys.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Caps how many calls can be inside a dependency at once, so that one slow dependency cannot
+ * hold every thread of the application.
+ *
+ * A `semaphore` bulkhead runs the calls on the caller's thread, at most `maxConcurrentCalls` at
+ * a time.  A `threadPool` bulkhead runs them on a dedicated pool of `threads` with room for
+ * `queueCapacity` more waiting their turn, so callers can also hand calls over without blocking.
+ *
+ * When the bulkhead is saturated a call waits up to `maxWait` for room, `Duration.ZERO` means
+ * fail fast.  A call that does not get in is not run and fails with the shared stackless
+ * `Failure` of `BULKHEAD_FULL`.  A caller interrupted while waiting gets a `Failure` of the
+ * `InterruptedException`, with its interrupt flag restored.
+ *
+ * Example:
+ * {{{
+ *
+ * Bulkhead database = Bulkhead.semaphore(10, Duration.ofMillis(100));
+ *
+ * Try<Connection> connection = database.with(DriverManager::getConnection, url);
+ *
+ * }}}
+ */
+public abstract class Bulkhead implements AutoCloseable {
+
+    /**
+     * The cause shared by every `Failure` of a call the bulkhead had no room for.
+     */
+    public static final CallNotPermittedException BULKHEAD_FULL = new CallNotPermittedException("bulkhead is full");
+
+    private static final Failure<?>[] FULL_FAILURES = Failure.preallocate(BULKHEAD_FULL);
+
+    private final Semaphore permits;
+    private final long maxWaitNanos;
+
+    private Bulkhead(final int permits, final Duration maxWait) {
+        this.permits = new Semaphore(permits);
+        this.maxWaitNanos = maxWait.toNanos();
+    }
+
+    /**
+     * Creates a bulkhead that lets at most `maxConcurrentCalls` callers run at once on their own threads.
+     */
+    public static SemaphoreBulkhead semaphore(final int maxConcurrentCalls, final Duration maxWait) {
+        requireValid(maxConcurrentCalls, "maxConcurrentCalls", 1, maxWait);
+        return new SemaphoreBulkhead(maxConcurrentCalls, maxWait);
+    }
+
+    /**
+     * Creates a bulkhead that runs calls on `threads` dedicated daemon threads, with up to `queueCapacity`
+     * more calls waiting for a thread.
+     */
+    public static ThreadPoolBulkhead threadPool(final int threads, final int queueCapacity, final Duration maxWait) {
+        requireValid(threads, "threads", 1, maxWait);
+        if (queueCapacity < 0)
+            throw new IllegalArgumentException("queueCapacity must not be negative, was " + queueCapacity);
+        return new ThreadPoolBulkhead(threads, queueCapacity, maxWait);
+    }
+
+    /**
+     * Runs the supplier if the bulkhead has room for it, otherwise returns a `Failure` without running it.
+     */
+    public abstract<T, E extends Throwable> Try<T> with(SupplierThrowsException<T, E> ste);
+
+    /**
+     * Same as `with(ste)` for a function applied to `t`.
+     */
+    public<T, R, E extends Throwable> Try<R> with(FunctionThrowsException<T, R, E> fte, T t) {
+        Objects.requireNonNull(fte);
+        return with(() -> fte.apply(t));
+    }
+
+    /**
+     * Returns how many more calls the bulkhead has room for right now.
+     */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    /**
+     * Releases the threads of a `threadPool` bulkhead once the calls already admitted are done.
+     */
+    @Override
+    public void close() {
+    }
+
+    /**
+     * Takes a permit, waiting up to `maxWait` for one.  Returns `null` once the permit is taken,
+     * or the `Failure` to hand the caller otherwise.
+     */
+    final<T> Try<T> acquire() {
+        try {
+            final boolean acquired = maxWaitNanos == 0
+                    ? permits.tryAcquire()
+                    : permits.tryAcquire(maxWaitNanos, TimeUnit.NANOSECONDS);
+
+            return acquired ? null : Failure.shared(FULL_FAILURES);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        }
+    }
+
+    final void release() {
+        permits.release();
+    }
+
+    private static void requireValid(final int size, final String name, final int min, final Duration maxWait) {
+        Objects.requireNonNull(maxWait);
+        if (size < min)
+            throw new IllegalArgumentException(name + " must be at least " + min + ", was " + size);
+        if (maxWait.isNegative())
+            throw new IllegalArgumentException("maxWait must not be negative, was " + maxWait);
+    }
+
+    /**
+     * A bulkhead running calls on the caller's thread.
+     */
+    public static final class SemaphoreBulkhead extends Bulkhead {
+        private SemaphoreBulkhead(final int maxConcurrentCalls, final Duration maxWait) {
+            super(maxConcurrentCalls, maxWait);
+        }
+
+        @Override
+        public<T, E extends Throwable> Try<T> with(SupplierThrowsException<T, E> ste) {
+            Objects.requireNonNull(ste);
+            final Try<T> rejected = acquire();
+            if (rejected != null)
+                return rejected;
+
+            try {
+                return Try.with(ste);
+            } finally {
+                release();
+            }
+        }
+
+        @Override
+        public String toString() {
+            return String.format("SemaphoreBulkhead(available=%d)", available());
+        }
+    }
+
+    /**
+     * A bulkhead running calls on a dedicated pool of threads.
+     */
+    public static final class ThreadPoolBulkhead extends Bulkhead {
+        private static final AtomicInteger count = new AtomicInteger();
+
+        private final ThreadPoolExecutor pool;
+
+        private ThreadPoolBulkhead(final int threads, final int queueCapacity, final Duration maxWait) {
+            super(threads + queueCapacity, maxWait);
+            // admission is bounded by the permits, the queue never has to reject
+            this.pool = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS, new LinkedBlockingQueue<>(), runnable -> {
+                final Thread thread = new Thread(runnable, "try-bulkhead-" + count.getAndIncrement());
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+
+        /**
+         * Runs the supplier on the pool and waits for its outcome.
+         */
+        @Override
+        public<T, E extends Throwable> Try<T> with(SupplierThrowsException<T, E> ste) {
+            return withAsync(ste).get();
+        }
+
+        /**
+         * Hands the supplier over to the pool if the bulkhead has room for it, otherwise returns a
+         * completed `TryFuture` of the `Failure`.  Only the wait for room, if any, blocks the caller.
+         */
+        public<T, E extends Throwable> TryFuture<T> withAsync(SupplierThrowsException<T, E> ste) {
+            Objects.requireNonNull(ste);
+            final Try<T> rejected = acquire();
+            if (rejected != null)
+                return TryFuture.of(rejected);
+
+            final CompletableFuture<Try<T>> outcome = new CompletableFuture<>();
+            try {
+                pool.execute(() -> {
+                    // the permit is back before the caller can see the outcome and submit again
+                    final Try<T> result;
+                    try {
+                        result = Try.with(ste);
+                    } catch (Throwable fatal) {
+                        release();
+                        outcome.completeExceptionally(fatal);
+                        return;
+                    }
+                    release();
+                    outcome.complete(result);
+                });
+            } catch (RejectedExecutionException e) {
+                release();
+                return TryFuture.of(new Failure<>(e));
+            }
+            return new TryFuture<>(outcome);
+        }
+
+        @Override
+        public void close() {
+            pool.shutdown();
+        }
+
+        @Override
+        public String toString() {
+            return String.format("ThreadPoolBulkhead(available=%d, active=%d)", available(), pool.getActiveCount());
+        }
+    }
+}
@@ -0,0 +1,16 @@
+package com.tsys.utils;
+
+/**
+ * The cause of the `Failure` returned when a guard refuses to run a call at all, for instance a
+ * `CircuitBreaker` that is open.
+ *
+ * Instances are shared by every refused call, so they carry no stack trace, no suppressed exceptions,
+ * and their cause cannot be set.
+ */
+public final class CallNotPermittedException extends RuntimeException {
+    private static final long serialVersionUID = 1L;
+
+    CallNotPermittedException(final String message) {
+        super(message, null, false, false);
+    }
+}
@@ -0,0 +1,246 @@
+package com.tsys.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Guards calls to a dependency and stops calling it while it is failing.
+ *
+ * The breaker starts `CLOSED` and records the outcome of the last `windowSize` calls.  Once the
+ * window is full and the share of failures in it reaches `failureRateThreshold`, the breaker
+ * opens.  While `OPEN`, calls are not run at all: they fail immediately with the shared stackless
+ * `Failure` of `CALL_NOT_PERMITTED`.  After `openDuration` the breaker lets `halfOpenCalls` trial
+ * calls through; if they all succeed it closes again with an empty window, the first failure
+ * opens it again.  So does a call refused for lack of trial permits once the trial calls have gone
+ * `openDuration` without all reporting, so that a trial call that hangs cannot keep it half open.
+ *
+ * Example:
+ * {{{
+ *
+ * CircuitBreaker breaker = CircuitBreaker.of(50, 0.5, Duration.ofSeconds(30));
+ *
+ * Try<Connection> connection = breaker.with(DriverManager::getConnection, url);
+ *
+ * }}}
+ *
+ * The hot path takes no locks: the state is swapped with compare-and-set on every transition and
+ * the window is a ring of atomic slots with an atomic failure count.
+ */
+public final class CircuitBreaker {
+
+    public enum State { CLOSED, OPEN, HALF_OPEN }
+
+    /**
+     * The cause shared by every `Failure` returned while the breaker refuses calls.
+     */
+    public static final CallNotPermittedException CALL_NOT_PERMITTED =
+            new CallNotPermittedException("circuit breaker is open");
+
+    private static final Failure<?>[] NOT_PERMITTED_FAILURES = Failure.preallocate(CALL_NOT_PERMITTED);
+
+    private static final int EMPTY = 0;
+    private static final int SUCCEEDED = 1;
+    private static final int FAILED = 2;
+
+    private final int windowSize;
+    private final double failureRateThreshold;
+    private final long openNanos;
+    private final int halfOpenCalls;
+    private final AtomicReference<Phase> phase;
+
+    private CircuitBreaker(final int windowSize, final double failureRateThreshold, final Duration openDuration, final int halfOpenCalls) {
+        this.windowSize = windowSize;
+        this.failureRateThreshold = failureRateThreshold;
+        this.openNanos = openDuration.toNanos();
+        this.halfOpenCalls = halfOpenCalls;
+        this.phase = new AtomicReference<>(new Closed(windowSize));
+    }
+
+    /**
+     * Creates a breaker that lets a single trial call through once `openDuration` has elapsed.
+     */
+    public static CircuitBreaker of(final int windowSize, final double failureRateThreshold, final Duration openDuration) {
+        return of(windowSize, failureRateThreshold, openDuration, 1);
+    }
+
+    public static CircuitBreaker of(final int windowSize, final double failureRateThreshold, final Duration openDuration, final int halfOpenCalls) {
+        Objects.requireNonNull(openDuration);
+        if (windowSize < 1)
+            throw new IllegalArgumentException("windowSize must be at least 1, was " + windowSize);
+        if (failureRateThreshold <= 0.0 || failureRateThreshold > 1.0)
+            throw new IllegalArgumentException("failureRateThreshold must be in (0, 1], was " + failureRateThreshold);
+        if (openDuration.isNegative())
+            throw new IllegalArgumentException("openDuration must not be negative, was " + openDuration);
+        if (halfOpenCalls < 1)
+            throw new IllegalArgumentException("halfOpenCalls must be at least 1, was " + halfOpenCalls);
+
+        return new CircuitBreaker(windowSize, failureRateThreshold, openDuration, halfOpenCalls);
+    }
+
+    /**
+     * Runs the supplier if the breaker permits it and records its outcome, otherwise returns
+     * the shared `Failure` of `CALL_NOT_PERMITTED` without running it.
+     */
+    public<T, E extends Throwable> Try<T> with(SupplierThrowsException<T, E> ste) {
+        Objects.requireNonNull(ste);
+        final Phase admitted = admit();
+        if (admitted == null)
+            return Failure.shared(NOT_PERMITTED_FAILURES);
+
+        final Try<T> result;
+        try {
+            result = Try.with(ste);
+        } catch (Throwable fatal) {
+            admitted.record(this, false);
+            throw fatal;
+        }
+        admitted.record(this, result.isSuccess());
+        return result;
+    }
+
+    /**
+     * Same as `with(ste)` for a function applied to `t`.
+     */
+    public<T, R, E extends Throwable> Try<R> with(FunctionThrowsException<T, R, E> fte, T t) {
+        Objects.requireNonNull(fte);
+        return with(() -> fte.apply(t));
+    }
+
+    public State state() {
+        return phase.get().state();
+    }
+
+    /**
+     * Returns the share of failures among the calls recorded since the breaker last closed, or 0
+     * unless it is closed.
+     */
+    public double failureRate() {
+        final Phase current = phase.get();
+        return current instanceof Closed ? ((Closed) current).failureRate() : 0.0;
+    }
+
+    /**
+     * Returns the phase a call is admitted in, or `null` if it may not run.
+     */
+    private Phase admit() {
+        while (true) {
+            final Phase current = phase.get();
+            if (current instanceof Closed)
+                return current;
+
+            if (current instanceof HalfOpen) {
+                final HalfOpen halfOpen = (HalfOpen) current;
+                if (halfOpen.tryAcquire())
+                    return current;
+                if (System.nanoTime() - halfOpen.since >= openNanos)
+                    open(current);
+                return null;
+            }
+
+            if (System.nanoTime() - ((Open) current).openedAt < openNanos)
+                return null;
+
+            phase.compareAndSet(current, new HalfOpen(halfOpenCalls));
+        }
+    }
+
+    private void open(final Phase from) {
+        phase.compareAndSet(from, new Open(System.nanoTime()));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("CircuitBreaker(%s)", state());
+    }
+
+    private static abstract class Phase {
+        abstract State state();
+
+        abstract void record(CircuitBreaker breaker, boolean succeeded);
+    }
+
+    private static final class Closed extends Phase {
+        private final AtomicIntegerArray window;
+        private final AtomicLong calls = new AtomicLong();
+        private final AtomicInteger failures = new AtomicInteger();
+
+        Closed(final int windowSize) {
+            this.window = new AtomicIntegerArray(windowSize);
+        }
+
+        @Override
+        State state() {
+            return State.CLOSED;
+        }
+
+        @Override
+        void record(final CircuitBreaker breaker, final boolean succeeded) {
+            final long call = calls.getAndIncrement();
+            final int previous = window.getAndSet((int) (call % window.length()), succeeded ? SUCCEEDED : FAILED);
+            final int delta = (succeeded ? 0 : 1) - (previous == FAILED ? 1 : 0);
+            final int failed = delta == 0 ? failures.get() : failures.addAndGet(delta);
+
+            if (!succeeded && call + 1 >= window.length() && failed >= breaker.failureRateThreshold * window.length())
+                breaker.open(this);
+        }
+
+        double failureRate() {
+            final long recorded = Math.min(calls.get(), window.length());
+            return recorded == 0 ? 0.0 : (double) failures.get() / recorded;
+        }
+    }
+
+    private static final class Open extends Phase {
+        private final long openedAt;
+
+        Open(final long openedAt) {
+            this.openedAt = openedAt;
+        }
+
+        @Override
+        State state() {
+            return State.OPEN;
+        }
+
+        @Override
+        void record(final CircuitBreaker breaker, final boolean succeeded) {
+        }
+    }
+
+    private static final class HalfOpen extends Phase {
+        private final AtomicInteger permits;
+        private final AtomicInteger successes = new AtomicInteger();
+        private final long since = System.nanoTime();
+
+        HalfOpen(final int permits) {
+            this.permits = new AtomicInteger(permits);
+        }
+
+        boolean tryAcquire() {
+            while (true) {
+                final int available = permits.get();
+                if (available == 0)
+                    return false;
+                if (permits.compareAndSet(available, available - 1))
+                    return true;
+            }
+        }
+
+        @Override
+        State state() {
+            return State.HALF_OPEN;
+        }
+
+        @Override
+        void record(final CircuitBreaker breaker, final boolean succeeded) {
+            if (!succeeded)
+                breaker.open(this);
+            else if (successes.incrementAndGet() == breaker.halfOpenCalls)
+                breaker.phase.compareAndSet(this, new Closed(breaker.windowSize));
+        }
+    }
+}
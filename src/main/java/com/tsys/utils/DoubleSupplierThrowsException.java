@@ -0,0 +1,6 @@
+package com.tsys.utils;
+
+@FunctionalInterface
+public interface DoubleSupplierThrowsException<E extends Throwable> {
+    double getAsDouble() throws E;
+}
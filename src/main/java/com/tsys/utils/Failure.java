@@ -1,15 +1,36 @@
 package com.tsys.utils;
 
+import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public class Failure<T> extends Try<T> {
+
+    /**
+     * The cause shared by every `Failure` produced when a predicate does not hold.  It has no stack
+     * trace, and neither its stack trace nor its cause can be changed, but suppressed exceptions could
+     * still be added to it, so it never leaves the library: callers get a fresh copy (see `exposed`).
+     */
+    static final NoSuchElementException PREDICATE_DOES_NOT_HOLD =
+            new StacklessNoSuchElementException("predicate does not hold");
+
+    private static final Failure<?>[] PREDICATE_FAILURES = preallocate(PREDICATE_DOES_NOT_HOLD);
+
     private final Throwable throwable;
+    private final FailureMode mode;
 
     public Failure(final Throwable throwable) {
+        this(throwable, Try.failureMode());
+    }
+
+    public Failure(final Throwable throwable, final FailureMode mode) {
         this.throwable = throwable;
+        this.mode = Objects.requireNonNull(mode);
     }
 
     @Override
@@ -20,7 +41,7 @@ public class Failure<T> extends Try<T> {
 
     @Override
     public T get() {
-        throw new RuntimeException(throwable);
+        throw raise(throwable(), mode);
     }
 
     @Override
@@ -34,35 +55,44 @@ public class Failure<T> extends Try<T> {
     @Override
     public <R> Try<R> recover(Function<Throwable, R> fn) {
         Objects.requireNonNull(fn);
+        final long start = Instrumentation.start();
+        Try<R> outcome;
         try {
-            return new Success<>(fn.apply(throwable));
+            outcome = Success.valueOf(fn.apply(throwable()));
         } catch (Throwable t) {
-            return rethrowIfFatal(t);
+            outcome = rethrowIfFatal(t);
         }
+        return Instrumentation.record("Failure.recover", start, outcome);
     }
 
     @Override
     public<R> Try<R> recoverWith(Function<Throwable, Try<R>> fn) {
         Objects.requireNonNull(fn);
+        final long start = Instrumentation.start();
+        Try<R> outcome;
         try {
-            return fn.apply(throwable);
+            outcome = fn.apply(throwable());
         } catch (Throwable t) {
-            return rethrowIfFatal(t);
+            outcome = rethrowIfFatal(t);
         }
+        return Instrumentation.record("Failure.recoverWith", start, outcome);
     }
 
     @Override
     public<R> Try<R> transform(Function<T, Try<R>> s, Function<Throwable, Try<R>> fn) {
+        final long start = Instrumentation.start();
+        Try<R> outcome;
         try {
-            return fn.apply(throwable);
+            outcome = fn.apply(throwable());
         } catch (Throwable t) {
-            return rethrowIfFatal(t);
+            outcome = rethrowIfFatal(t);
         }
+        return Instrumentation.record("Failure.transform", start, outcome);
     }
 
     @Override
     public Try<T> failed() {
-        return new Success(throwable);
+        return new Success(throwable());
     }
 
     @Override
@@ -75,13 +105,131 @@ public class Failure<T> extends Try<T> {
         return (Try<R>) this;
     }
 
+    @Override
+    public TryInt mapToInt(ToIntFunction<? super T> mapper) {
+        return new FailureInt(throwable, mode);
+    }
+
+    @Override
+    public TryLong mapToLong(ToLongFunction<? super T> mapper) {
+        return new FailureLong(throwable, mode);
+    }
+
+    @Override
+    public TryDouble mapToDouble(ToDoubleFunction<? super T> mapper) {
+        return new FailureDouble(throwable, mode);
+    }
+
     @Override
     public <R> Try<R> flatMap(Function<? super T, Try<R>> fn) {
         return (Try<R>) this;
     }
 
+    /**
+     * Returns the cause as callers may see it, a fresh copy of it if it is shared.
+     */
+    Throwable throwable() {
+        return exposed(throwable);
+    }
+
+    /**
+     * Returns the `FailureMode` this `Failure` was created with.
+     */
+    public FailureMode mode() {
+        return mode;
+    }
+
     @Override
     public String toString() {
         return String.format("Failure(%s)", throwable.toString());
     }
+
+    /**
+     * Throws `t` the way `mode` asks for, wrapped in a `RuntimeException` or as is.
+     * Declared to return an exception so that callers can write `throw raise(t, mode)`.
+     */
+    static RuntimeException raise(final Throwable t, final FailureMode mode) {
+        if (mode == FailureMode.LIGHTWEIGHT) {
+            throw Failure.<RuntimeException>sneakyThrow(exposed(t));
+        }
+        throw new RuntimeException(exposed(t));
+    }
+
+    /**
+     * Returns `t`, or a fresh stackless copy of it if it is the shared `PREDICATE_DOES_NOT_HOLD`, so
+     * that no caller can add suppressed exceptions to the one instance every predicate failure shares.
+     */
+    static Throwable exposed(final Throwable t) {
+        return t == PREDICATE_DOES_NOT_HOLD ? new StacklessNoSuchElementException(t.getMessage()) : t;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <E extends Throwable> E sneakyThrow(final Throwable t) throws E {
+        throw (E) t;
+    }
+
+    /**
+     * Returns the shared `Failure`, for the current `FailureMode`, of a predicate that does not hold.
+     */
+    @SuppressWarnings("unchecked")
+    static <T> Try<T> predicateDoesNotHold() {
+        return (Try<T>) shared(PREDICATE_FAILURES);
+    }
+
+    /**
+     * Creates one `Failure` of `t` per `FailureMode`, to be handed out by `shared`.
+     */
+    static Failure<?>[] preallocate(final Throwable t) {
+        final FailureMode[] modes = FailureMode.values();
+        final Failure<?>[] failures = new Failure<?>[modes.length];
+        for (FailureMode mode : modes) {
+            failures[mode.ordinal()] = new Failure<>(t, mode);
+        }
+        return failures;
+    }
+
+    @SuppressWarnings("unchecked")
+    static <T> Try<T> shared(final Failure<?>[] preallocated) {
+        return (Try<T>) preallocated[Try.failureMode().ordinal()];
+    }
+
+    static UnsupportedOperationException unsupported(final String message, final FailureMode mode) {
+        return mode == FailureMode.LIGHTWEIGHT
+                ? new StacklessUnsupportedOperationException(message)
+                : new UnsupportedOperationException(message);
+    }
+
+    static final class StacklessNoSuchElementException extends NoSuchElementException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessNoSuchElementException(final String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+
+        @Override
+        public void setStackTrace(final StackTraceElement[] stackTrace) { }
+
+        @Override
+        public synchronized Throwable initCause(final Throwable cause) {
+            throw new IllegalStateException("Can't overwrite cause of a shared exception");
+        }
+    }
+
+    static final class StacklessUnsupportedOperationException extends UnsupportedOperationException {
+        private static final long serialVersionUID = 1L;
+
+        StacklessUnsupportedOperationException(final String message) {
+            super(message);
+        }
+
+        @Override
+        public synchronized Throwable fillInStackTrace() {
+            return this;
+        }
+    }
 }
@@ -0,0 +1,104 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public class FailureDouble extends TryDouble {
+    private final Throwable throwable;
+    private final FailureMode mode;
+
+    public FailureDouble(final Throwable throwable) {
+        this(throwable, Try.failureMode());
+    }
+
+    public FailureDouble(final Throwable throwable, final FailureMode mode) {
+        this.throwable = throwable;
+        this.mode = Objects.requireNonNull(mode);
+    }
+
+    @Override
+    public boolean isSuccess() { return false; }
+
+    @Override
+    public boolean isFailure() { return true;  }
+
+    @Override
+    public double getAsDouble() {
+        throw Failure.raise(throwable, mode);
+    }
+
+    @Override
+    public TryDouble map(DoubleUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <R> Try<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        return new Failure<>(throwable, mode);
+    }
+
+    @Override
+    public TryInt mapToInt(DoubleToIntFunction mapper) {
+        return new FailureInt(throwable, mode);
+    }
+
+    @Override
+    public TryLong mapToLong(DoubleToLongFunction mapper) {
+        return new FailureLong(throwable, mode);
+    }
+
+    @Override
+    public TryDouble flatMap(DoubleFunction<TryDouble> mapper) {
+        return this;
+    }
+
+    @Override
+    public void forEach(DoubleConsumer fn) { }
+
+    @Override
+    public TryDouble filter(DoublePredicate predicate) {
+        return this;
+    }
+
+    @Override
+    public TryDouble recover(ToDoubleFunction<Throwable> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return new SuccessDouble(fn.applyAsDouble(Failure.exposed(throwable)));
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public TryDouble recoverWith(Function<Throwable, TryDouble> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return fn.apply(Failure.exposed(throwable));
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public Try<Throwable> failed() {
+        return new Success<>(Failure.exposed(throwable));
+    }
+
+    @Override
+    public Try<Double> boxed() {
+        return new Failure<>(throwable, mode);
+    }
+
+    /**
+     * Returns the `FailureMode` this `FailureDouble` was created with.
+     */
+    public FailureMode mode() {
+        return mode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailureDouble(%s)", throwable.toString());
+    }
+}
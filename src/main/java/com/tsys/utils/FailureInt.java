@@ -0,0 +1,104 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public class FailureInt extends TryInt {
+    private final Throwable throwable;
+    private final FailureMode mode;
+
+    public FailureInt(final Throwable throwable) {
+        this(throwable, Try.failureMode());
+    }
+
+    public FailureInt(final Throwable throwable, final FailureMode mode) {
+        this.throwable = throwable;
+        this.mode = Objects.requireNonNull(mode);
+    }
+
+    @Override
+    public boolean isSuccess() { return false; }
+
+    @Override
+    public boolean isFailure() { return true;  }
+
+    @Override
+    public int getAsInt() {
+        throw Failure.raise(throwable, mode);
+    }
+
+    @Override
+    public TryInt map(IntUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <R> Try<R> mapToObj(IntFunction<? extends R> mapper) {
+        return new Failure<>(throwable, mode);
+    }
+
+    @Override
+    public TryLong mapToLong(IntToLongFunction mapper) {
+        return new FailureLong(throwable, mode);
+    }
+
+    @Override
+    public TryDouble mapToDouble(IntToDoubleFunction mapper) {
+        return new FailureDouble(throwable, mode);
+    }
+
+    @Override
+    public TryInt flatMap(IntFunction<TryInt> mapper) {
+        return this;
+    }
+
+    @Override
+    public void forEach(IntConsumer fn) { }
+
+    @Override
+    public TryInt filter(IntPredicate predicate) {
+        return this;
+    }
+
+    @Override
+    public TryInt recover(ToIntFunction<Throwable> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return new SuccessInt(fn.applyAsInt(Failure.exposed(throwable)));
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public TryInt recoverWith(Function<Throwable, TryInt> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return fn.apply(Failure.exposed(throwable));
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public Try<Throwable> failed() {
+        return new Success<>(Failure.exposed(throwable));
+    }
+
+    @Override
+    public Try<Integer> boxed() {
+        return new Failure<>(throwable, mode);
+    }
+
+    /**
+     * Returns the `FailureMode` this `FailureInt` was created with.
+     */
+    public FailureMode mode() {
+        return mode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailureInt(%s)", throwable.toString());
+    }
+}
@@ -0,0 +1,104 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public class FailureLong extends TryLong {
+    private final Throwable throwable;
+    private final FailureMode mode;
+
+    public FailureLong(final Throwable throwable) {
+        this(throwable, Try.failureMode());
+    }
+
+    public FailureLong(final Throwable throwable, final FailureMode mode) {
+        this.throwable = throwable;
+        this.mode = Objects.requireNonNull(mode);
+    }
+
+    @Override
+    public boolean isSuccess() { return false; }
+
+    @Override
+    public boolean isFailure() { return true;  }
+
+    @Override
+    public long getAsLong() {
+        throw Failure.raise(throwable, mode);
+    }
+
+    @Override
+    public TryLong map(LongUnaryOperator mapper) {
+        return this;
+    }
+
+    @Override
+    public <R> Try<R> mapToObj(LongFunction<? extends R> mapper) {
+        return new Failure<>(throwable, mode);
+    }
+
+    @Override
+    public TryInt mapToInt(LongToIntFunction mapper) {
+        return new FailureInt(throwable, mode);
+    }
+
+    @Override
+    public TryDouble mapToDouble(LongToDoubleFunction mapper) {
+        return new FailureDouble(throwable, mode);
+    }
+
+    @Override
+    public TryLong flatMap(LongFunction<TryLong> mapper) {
+        return this;
+    }
+
+    @Override
+    public void forEach(LongConsumer fn) { }
+
+    @Override
+    public TryLong filter(LongPredicate predicate) {
+        return this;
+    }
+
+    @Override
+    public TryLong recover(ToLongFunction<Throwable> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return new SuccessLong(fn.applyAsLong(Failure.exposed(throwable)));
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public TryLong recoverWith(Function<Throwable, TryLong> fn) {
+        Objects.requireNonNull(fn);
+        try {
+            return fn.apply(Failure.exposed(throwable));
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public Try<Throwable> failed() {
+        return new Success<>(Failure.exposed(throwable));
+    }
+
+    @Override
+    public Try<Long> boxed() {
+        return new Failure<>(throwable, mode);
+    }
+
+    /**
+     * Returns the `FailureMode` this `FailureLong` was created with.
+     */
+    public FailureMode mode() {
+        return mode;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailureLong(%s)", throwable.toString());
+    }
+}
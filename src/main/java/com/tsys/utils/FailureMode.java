@@ -0,0 +1,21 @@
+package com.tsys.utils;
+
+/**
+ * Decides how a `Failure` behaves when its value is demanded and whether the
+ * exceptions created by `Try` itself carry a stack trace.
+ *
+ * `WRAPPED` is the default: `Failure.get()` throws a `RuntimeException` wrapping
+ * the original throwable.
+ *
+ * `LIGHTWEIGHT` is meant for hot paths where failures are expected (parsing, validation).
+ * `Failure.get()` rethrows the original throwable as is, without allocating a wrapper,
+ * and the exceptions that `Try` creates on its own (for example when a `Success` is `failed()`)
+ * do not fill in their stack trace.
+ *
+ * ''Note:'' an exception thrown by user code has already captured its stack trace by the time
+ * `Try` catches it, the mode cannot undo that cost.
+ */
+public enum FailureMode {
+    WRAPPED,
+    LIGHTWEIGHT
+}
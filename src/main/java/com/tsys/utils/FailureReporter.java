@@ -0,0 +1,311 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
+
+/**
+ * Reports failures to a sink, such as a logger, without letting the reporting become the bottleneck
+ * when failures come by the hundred thousand.
+ *
+ * Each exception class gets a token bucket of `burst` reports refilled at `perSecond`: the failures
+ * beyond it are not reported, only counted, and the next `Record` of the class carries how many
+ * were suppressed since the previous one.  Admitted records go into a bounded ring buffer drained by
+ * a single daemon thread that hands them to the sink, so the reporting thread never waits on I/O or
+ * on a logging lock.  A record that finds the buffer full is counted as suppressed too.
+ *
+ * Example:
+ * {{{
+ *
+ * FailureReporter reporter = FailureReporter.of(record -> logger.warn(record.toString(), record.throwable()), 10, 20, 1024);
+ *
+ * Try.with(getConnection, url).recoverWith(t -> { reporter.report(t); return fallback(); });
+ *
+ * }}}
+ *
+ * Reporting is lock-free: the buckets follow the generic cell rate algorithm on one `AtomicLong` per
+ * class, and the buffer is a multi-producer, single-consumer array of sequenced slots.
+ */
+public final class FailureReporter implements AutoCloseable {
+    private final Consumer<? super Record> sink;
+    private final long intervalNanos;
+    private final long burstNanos;
+    private final ConcurrentHashMap<Class<?>, Limiter> limiters = new ConcurrentHashMap<>();
+    private final RingBuffer buffer;
+    private final LongAdder suppressed = new LongAdder();
+    // admitted reports between their closed check and their offer, which the writer waits for on close
+    private final AtomicInteger offering = new AtomicInteger();
+    private final Thread writer;
+    private volatile boolean closed;
+    // set by the writer before it parks, so that producers only unpark it when it may be parked
+    private volatile boolean idle;
+
+    private FailureReporter(final Consumer<? super Record> sink, final double perSecond, final int burst, final int capacity) {
+        this.sink = sink;
+        this.intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / perSecond);
+        this.burstNanos = intervalNanos * burst;
+        this.buffer = new RingBuffer(capacity);
+        this.writer = new Thread(this::drain, "try-failure-reporter");
+        this.writer.setDaemon(true);
+    }
+
+    /**
+     * Creates a reporter, and starts its writer thread, that reports at most `burst` failures of a class
+     * at once and `perSecond` of them in the long run, buffering up to `capacity` records for the sink.
+     */
+    public static FailureReporter of(Consumer<? super Record> sink, double perSecond, int burst, int capacity) {
+        Objects.requireNonNull(sink);
+        if (perSecond <= 0.0)
+            throw new IllegalArgumentException("perSecond must be positive, was " + perSecond);
+        if (burst < 1)
+            throw new IllegalArgumentException("burst must be at least 1, was " + burst);
+        if (capacity < 2)
+            throw new IllegalArgumentException("capacity must be at least 2, was " + capacity);
+
+        final FailureReporter reporter = new FailureReporter(sink, perSecond, burst, capacity);
+        reporter.writer.start();
+        return reporter;
+    }
+
+    /**
+     * Reports the failure unless its class is over its rate, or the buffer is full.  Returns `true`
+     * if a record was queued for the sink.
+     */
+    public boolean report(final Throwable t) {
+        Objects.requireNonNull(t);
+        final Limiter limiter = limiterOf(t.getClass());
+        if (closed || !limiter.tryAcquire(System.nanoTime())) {
+            limiter.suppressed.increment();
+            suppressed.increment();
+            return false;
+        }
+
+        offering.incrementAndGet();
+        try {
+            if (closed) {
+                limiter.suppressed.increment();
+                suppressed.increment();
+                return false;
+            }
+
+            final long suppressedBefore = limiter.suppressed.sumThenReset();
+            if (buffer.offer(new Record(t, suppressedBefore, System.currentTimeMillis()))) {
+                if (idle)
+                    LockSupport.unpark(writer);
+                return true;
+            }
+
+            limiter.suppressed.add(suppressedBefore + 1);
+            suppressed.increment();
+            return false;
+        } finally {
+            offering.decrementAndGet();
+            if (closed)
+                LockSupport.unpark(writer);
+        }
+    }
+
+    /**
+     * Reports the cause of the `Try` if it is a `Failure`.  Returns `true` if a record was queued.
+     */
+    public boolean report(final Try<?> outcome) {
+        Objects.requireNonNull(outcome);
+        return outcome.isFailure() && report(((Failure<?>) outcome).throwable());
+    }
+
+    /**
+     * Returns how many failures have not been reported since the reporter was created.
+     */
+    public long suppressed() {
+        return suppressed.sum();
+    }
+
+    /**
+     * Stops accepting failures, hands the records already queued to the sink and stops the writer thread.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        LockSupport.unpark(writer);
+        if (Thread.currentThread() == writer)
+            return;
+
+        boolean interrupted = false;
+        while (writer.isAlive()) {
+            try {
+                writer.join();
+            } catch (InterruptedException e) {
+                interrupted = true;
+            }
+        }
+        if (interrupted)
+            Thread.currentThread().interrupt();
+    }
+
+    @Override
+    public String toString() {
+        return String.format("FailureReporter(suppressed=%d)", suppressed());
+    }
+
+    private Limiter limiterOf(final Class<?> exceptionClass) {
+        final Limiter limiter = limiters.get(exceptionClass);
+        return limiter != null ? limiter : limiters.computeIfAbsent(exceptionClass, c -> new Limiter());
+    }
+
+    private void drain() {
+        while (true) {
+            final Record record = buffer.poll();
+            if (record != null) {
+                if (idle)
+                    idle = false;
+                deliver(record);
+            } else if (closed) {
+                // the producers that passed the closed check before it was set may still be offering,
+                // any later one sees it set and counts its failure as suppressed
+                while (offering.get() != 0) {
+                    drainQueued();
+                    LockSupport.park(this);
+                }
+                drainQueued();
+                return;
+            } else if (!idle) {
+                // a record offered before this is seen by the next poll, one offered after it unparks the writer
+                idle = true;
+            } else {
+                LockSupport.park(this);
+            }
+        }
+    }
+
+    private void drainQueued() {
+        Record record;
+        while ((record = buffer.poll()) != null) {
+            deliver(record);
+        }
+    }
+
+    private void deliver(final Record record) {
+        try {
+            sink.accept(record);
+        } catch (Throwable t) {
+            if (Try.fatal(t))
+                throw t;
+        }
+    }
+
+    /**
+     * A reported failure, with the number of failures of the same class suppressed since the previous record.
+     */
+    public static final class Record {
+        private final Throwable throwable;
+        private final long suppressedBefore;
+        private final long timestamp;
+
+        Record(final Throwable throwable, final long suppressedBefore, final long timestamp) {
+            this.throwable = throwable;
+            this.suppressedBefore = suppressedBefore;
+            this.timestamp = timestamp;
+        }
+
+        public Throwable throwable() {
+            return throwable;
+        }
+
+        public long suppressedBefore() {
+            return suppressedBefore;
+        }
+
+        /**
+         * Returns when the failure was reported, in milliseconds since the epoch.
+         */
+        public long timestamp() {
+            return timestamp;
+        }
+
+        @Override
+        public String toString() {
+            return suppressedBefore == 0
+                    ? throwable.toString()
+                    : String.format("%s (%d more suppressed)", throwable, suppressedBefore);
+        }
+    }
+
+    /**
+     * A token bucket kept as the theoretical arrival time of the next report: a report is allowed as
+     * long as that time is no more than `burst` intervals ahead of now.
+     */
+    private final class Limiter {
+        private final AtomicLong nextArrival = new AtomicLong(Long.MIN_VALUE);
+        private final LongAdder suppressed = new LongAdder();
+    // admitted reports between their closed check and their offer, which the writer waits for on close
+    private final AtomicInteger offering = new AtomicInteger();
+
+        boolean tryAcquire(final long now) {
+            while (true) {
+                final long arrival = nextArrival.get();
+                final long next = (arrival == Long.MIN_VALUE || arrival - now < 0 ? now : arrival) + intervalNanos;
+                if (next - now > burstNanos)
+                    return false;
+                if (nextArrival.compareAndSet(arrival, next))
+                    return true;
+            }
+        }
+    }
+
+    /**
+     * A bounded multi-producer, single-consumer queue.  Each slot has a sequence telling producers
+     * when it is free for the `n`th offer and the consumer when the `n`th record is in it, so neither
+     * side ever takes a lock.  The two states of a slot can only be told apart with at least two slots.
+     */
+    private static final class RingBuffer {
+        private final int capacity;
+        private final AtomicReferenceArray<Record> slots;
+        private final AtomicLongArray sequences;
+        private final AtomicLong tail = new AtomicLong();
+        private long head;
+
+        RingBuffer(final int capacity) {
+            this.capacity = capacity;
+            this.slots = new AtomicReferenceArray<>(capacity);
+            this.sequences = new AtomicLongArray(capacity);
+            for (int i = 0; i < capacity; i++) {
+                sequences.set(i, i);
+            }
+        }
+
+        boolean offer(final Record record) {
+            while (true) {
+                final long position = tail.get();
+                final int index = (int) (position % capacity);
+                final long sequence = sequences.get(index);
+                if (sequence < position)
+                    return false;
+                if (sequence == position && tail.compareAndSet(position, position + 1)) {
+                    slots.lazySet(index, record);
+                    sequences.set(index, position + 1);
+                    return true;
+                }
+            }
+        }
+
+        // called by the single writer thread only
+        Record poll() {
+            final int index = (int) (head % capacity);
+            if (sequences.get(index) != head + 1)
+                return null;
+
+            final Record record = slots.get(index);
+            slots.lazySet(index, null);
+            sequences.set(index, head + capacity);
+            head++;
+            return record;
+        }
+    }
+}
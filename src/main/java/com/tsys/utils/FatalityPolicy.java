@@ -0,0 +1,113 @@
+package com.tsys.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Decides which throwables are fatal: thrown on by `Try` and its combinators rather than caught
+ * into a `Failure`.  Install one with `Try.fatalityPolicy(FatalityPolicy)`.
+ *
+ * The verdict only depends on the class of the throwable and is computed once per class (rarely
+ * more, when threads race on a new class), then cached in a `ClassValue`, so classifying a caught
+ * throwable is a single lookup.
+ *
+ * `DEFAULT` is the classification `Try` has always used, `HIERARCHICAL` extends it to subclasses,
+ * and `of` makes a policy of the given classes and their subclasses.  Extend this class and
+ * implement `classify` for anything else.
+ */
+public abstract class FatalityPolicy {
+
+    /**
+     * Every `VirtualMachineError` but `StackOverflowError`, and exactly `ThreadDeath`,
+     * `InterruptedException` and `LinkageError`, their subclasses are not fatal.
+     */
+    public static final FatalityPolicy DEFAULT = new FatalityPolicy() {
+        @Override
+        protected boolean classify(final Class<? extends Throwable> type) {
+            // StackOverflowError ok even though it is a VirtualMachineError
+            if (type == StackOverflowError.class)
+                return false;
+
+            return VirtualMachineError.class.isAssignableFrom(type)
+                    || type == ThreadDeath.class
+                    || type == InterruptedException.class
+                    || type == LinkageError.class;
+        }
+
+        @Override
+        public String toString() {
+            return "FatalityPolicy.DEFAULT";
+        }
+    };
+
+    /**
+     * Same as `DEFAULT`, with the subclasses of `ThreadDeath`, `InterruptedException` and
+     * `LinkageError`, such as `NoClassDefFoundError`, fatal too.
+     */
+    public static final FatalityPolicy HIERARCHICAL = new FatalityPolicy() {
+        @Override
+        protected boolean classify(final Class<? extends Throwable> type) {
+            if (StackOverflowError.class.isAssignableFrom(type))
+                return false;
+
+            return VirtualMachineError.class.isAssignableFrom(type)
+                    || ThreadDeath.class.isAssignableFrom(type)
+                    || InterruptedException.class.isAssignableFrom(type)
+                    || LinkageError.class.isAssignableFrom(type);
+        }
+
+        @Override
+        public String toString() {
+            return "FatalityPolicy.HIERARCHICAL";
+        }
+    };
+
+    private final ClassValue<Boolean> verdicts = new ClassValue<Boolean>() {
+        @Override
+        @SuppressWarnings("unchecked")
+        protected Boolean computeValue(final Class<?> type) {
+            return classify((Class<? extends Throwable>) type);
+        }
+    };
+
+    protected FatalityPolicy() { }
+
+    /**
+     * Returns a policy under which the given classes and their subclasses, and nothing else, are fatal.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static FatalityPolicy of(final Class<? extends Throwable>... fatal) {
+        Objects.requireNonNull(fatal);
+        final Class<? extends Throwable>[] classes = fatal.clone();
+        for (Class<? extends Throwable> c : classes) {
+            Objects.requireNonNull(c);
+        }
+        return new FatalityPolicy() {
+            @Override
+            protected boolean classify(final Class<? extends Throwable> type) {
+                for (Class<? extends Throwable> c : classes) {
+                    if (c.isAssignableFrom(type))
+                        return true;
+                }
+                return false;
+            }
+
+            @Override
+            public String toString() {
+                return String.format("FatalityPolicy.of(%s)", Arrays.toString(classes));
+            }
+        };
+    }
+
+    /**
+     * Returns `true` if throwables of the class are fatal.  Called usually once per class, possibly
+     * more under contention, as threads racing on a class each classify it, so it must be free of
+     * side effects and return the same answer every time.
+     */
+    protected abstract boolean classify(Class<? extends Throwable> type);
+
+    public final boolean isFatal(final Throwable t) {
+        return verdicts.get(t.getClass());
+    }
+}
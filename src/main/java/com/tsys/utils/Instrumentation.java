@@ -0,0 +1,35 @@
+package com.tsys.utils;
+
+/**
+ * Times evaluations and hands their outcome to the installed `TryMetrics`.
+ *
+ * With no `TryMetrics` installed, `start` is a volatile read and `record` another one, nothing is
+ * timed or allocated.  A `TryMetrics` that throws is ignored, it never changes the outcome it records.
+ */
+final class Instrumentation {
+    static final long DISABLED = Long.MIN_VALUE;
+
+    private Instrumentation() { }
+
+    static long start() {
+        return Try.metrics() == null ? DISABLED : System.nanoTime();
+    }
+
+    static<T> Try<T> record(final String name, final long start, final Try<T> outcome) {
+        final TryMetrics metrics = Try.metrics();
+        if (metrics == null || start == DISABLED || outcome == null)
+            return outcome;
+
+        final long nanos = System.nanoTime() - start;
+        try {
+            if (outcome.isSuccess())
+                metrics.recordSuccess(name, nanos);
+            else
+                metrics.recordFailure(name, ((Failure<T>) outcome).throwable(), nanos);
+        } catch (Throwable t) {
+            if (Try.fatal(t))
+                throw t;
+        }
+        return outcome;
+    }
+}
@@ -0,0 +1,6 @@
+package com.tsys.utils;
+
+@FunctionalInterface
+public interface IntSupplierThrowsException<E extends Throwable> {
+    int getAsInt() throws E;
+}
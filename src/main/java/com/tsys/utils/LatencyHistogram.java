@@ -0,0 +1,116 @@
+package com.tsys.utils;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * A lock-free histogram of durations in nanoseconds.
+ *
+ * Each power of two is split into 8 linear buckets, so a recorded value is reported within 12.5% of
+ * its true value, from 1ns up to `Long.MAX_VALUE`, in a fixed array of 488 counters.  Recording is a
+ * single atomic increment.  A `snapshot` is not atomic with respect to concurrent recording, it may
+ * miss values recorded while it is being taken.
+ */
+public final class LatencyHistogram {
+    private static final int SUB_BUCKET_BITS = 3;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int BUCKETS = (64 - SUB_BUCKET_BITS) << SUB_BUCKET_BITS;
+
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+
+    /**
+     * Records a duration, negative ones are recorded as zero.
+     */
+    public void record(final long nanos) {
+        counts.incrementAndGet(bucket(Math.max(0, nanos)));
+    }
+
+    public Snapshot snapshot() {
+        final long[] copy = new long[BUCKETS];
+        long total = 0;
+        for (int i = 0; i < BUCKETS; i++) {
+            copy[i] = counts.get(i);
+            total += copy[i];
+        }
+        return new Snapshot(copy, total);
+    }
+
+    static int bucket(final long value) {
+        if (value < SUB_BUCKETS)
+            return (int) value;
+
+        final int exponent = 63 - Long.numberOfLeadingZeros(value);
+        final int subBucket = (int) (value >>> (exponent - SUB_BUCKET_BITS)) & (SUB_BUCKETS - 1);
+        return ((exponent - SUB_BUCKET_BITS + 1) << SUB_BUCKET_BITS) | subBucket;
+    }
+
+    /**
+     * Returns the highest value that falls in the bucket.
+     */
+    static long highestValue(final int bucket) {
+        if (bucket < SUB_BUCKETS)
+            return bucket;
+
+        final int exponent = (bucket >>> SUB_BUCKET_BITS) + SUB_BUCKET_BITS - 1;
+        final long lowest = (long) (SUB_BUCKETS | (bucket & (SUB_BUCKETS - 1))) << (exponent - SUB_BUCKET_BITS);
+        return lowest + (1L << (exponent - SUB_BUCKET_BITS)) - 1;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("LatencyHistogram(%s)", snapshot());
+    }
+
+    /**
+     * The counts of a `LatencyHistogram` at one point in time.
+     */
+    public static final class Snapshot {
+        private final long[] counts;
+        private final long count;
+
+        Snapshot(final long[] counts, final long count) {
+            this.counts = counts;
+            this.count = count;
+        }
+
+        public long count() {
+            return count;
+        }
+
+        /**
+         * Returns the value that `percentile` percent of the recorded values do not exceed, or 0
+         * if nothing was recorded.
+         */
+        public long percentile(final double percentile) {
+            if (percentile < 0.0 || percentile > 100.0)
+                throw new IllegalArgumentException("percentile must be in [0, 100], was " + percentile);
+            if (count == 0)
+                return 0;
+
+            final long rank = Math.max(1, (long) Math.ceil(percentile / 100.0 * count));
+            long seen = 0;
+            for (int i = 0; i < counts.length; i++) {
+                seen += counts[i];
+                if (seen >= rank)
+                    return highestValue(i);
+            }
+            return highestValue(counts.length - 1);
+        }
+
+        public long p50() {
+            return percentile(50.0);
+        }
+
+        public long p99() {
+            return percentile(99.0);
+        }
+
+        public long p999() {
+            return percentile(99.9);
+        }
+
+        @Override
+        public String toString() {
+            return String.format("count=%d, p50=%dns, p99=%dns, p999=%dns", count, p50(), p99(), p999());
+        }
+    }
+}
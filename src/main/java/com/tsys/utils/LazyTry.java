@@ -0,0 +1,379 @@
+package com.tsys.utils;
+
+import java.util.ArrayDeque;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+
+/**
+ * A `Try` that is not computed until its outcome is demanded.
+ *
+ * The combinators `map`, `flatMap`, `filter`, `recover`, `recoverWith` and `orElse` only record
+ * the step, nothing runs until one of `get`, `getOrElse`, `forEach`, `toOptional`, `isSuccess`,
+ * `isFailure` or `toTry` asks for the outcome.  The outcome is then memoized: every later (or
+ * concurrent) reader of the same `LazyTry` gets the same `Try` and the computation runs once.
+ *
+ * Example:
+ * {{{
+ *
+ * LazyTry<Report> report = LazyTry.with(() -> loadFromCache(key))
+ *                                 .orElse(LazyTry.with(() -> buildExpensiveReport(key)));
+ *
+ * // buildExpensiveReport only runs if loadFromCache fails
+ * report.forEach(System.out::println);
+ *
+ * }}}
+ *
+ * Once evaluated, the outcome follows the same rules as `Try`: non-fatal exceptions become a
+ * `Failure`, fatal ones are thrown to the reader that triggered the evaluation.
+ *
+ * Evaluation is trampolined: it runs in a loop over an explicit stack rather than by recursion,
+ * so arbitrarily long chains, and recursive ones like a retry through `recoverWith`, run in
+ * constant stack space.
+ * {{{
+ *
+ * static LazyTry<Integer> divide() {
+ *   return LazyTry.with(() -> Integer.parseInt(readKeyboard("Enter an Int that you'd like to divide:")))
+ *                 .flatMap(x -> LazyTry.with(() -> x / Integer.parseInt(readKeyboard("... divide by:"))))
+ *                 .recoverWith(t -> divide());
+ * }
+ *
+ * }}}
+ */
+public final class LazyTry<T> {
+    private static final int SUPPLY = 0;
+    private static final int SUSPEND = 1;
+    private static final int STEP = 2;
+    private static final int BIND = 3;
+
+    // marks, on the evaluation stack, a node whose outcome is the outcome of the LazyTry its bind returned
+    private static final Object FORWARD = new Object();
+
+    @SuppressWarnings("rawtypes")
+    private static final AtomicIntegerFieldUpdater<LazyTry> CLAIMED =
+            AtomicIntegerFieldUpdater.newUpdater(LazyTry.class, "claimed");
+
+    private final int kind;
+    private final LazyTry<?> source;
+    private final Object onSuccess;
+    private final Object onFailure;
+    private volatile Try<T> outcome;
+    // 1 while a thread is evaluating this node, or once it has been evaluated
+    private volatile int claimed;
+
+    private LazyTry(final int kind, final LazyTry<?> source, final Object onSuccess, final Object onFailure) {
+        this.kind = kind;
+        this.source = source;
+        this.onSuccess = onSuccess;
+        this.onFailure = onFailure;
+    }
+
+    /**
+     * Constructs a `LazyTry` that will evaluate a supplier that throws checked exception.
+     */
+    public static<T, E extends Throwable> LazyTry<T> with(SupplierThrowsException<T, E> ste) {
+        Objects.requireNonNull(ste);
+        return new LazyTry<>(SUPPLY, null, (Supplier<Try<T>>) () -> Try.with(ste), null);
+    }
+
+    /**
+     * Constructs a `LazyTry` that will evaluate a supplier that throws unchecked exception.
+     */
+    public static<T> LazyTry<T> with(Supplier<T> supplier) {
+        Objects.requireNonNull(supplier);
+        return new LazyTry<>(SUPPLY, null, (Supplier<Try<T>>) () -> Try.with(supplier), null);
+    }
+
+    /**
+     * Constructs a `LazyTry` that, once evaluated, evaluates the `LazyTry` returned by `next`.
+     * Useful to defer building a recursive chain until it is needed.
+     */
+    public static<T> LazyTry<T> suspend(Supplier<LazyTry<T>> next) {
+        Objects.requireNonNull(next);
+        return new LazyTry<>(SUSPEND, null, next, null);
+    }
+
+    /**
+     * Constructs an already evaluated `LazyTry` from the given `Try`.
+     */
+    public static<T> LazyTry<T> of(Try<T> evaluated) {
+        Objects.requireNonNull(evaluated);
+        final LazyTry<T> lazy = new LazyTry<>(SUPPLY, null, null, null);
+        lazy.outcome = evaluated;
+        return lazy;
+    }
+
+    /**
+     * Records the given function to be applied to the value once this turns out to be a `Success`.
+     */
+    public<R> LazyTry<R> map(Function<? super T, ? extends R> fn) {
+        Objects.requireNonNull(fn);
+        return step((Try<T> t) -> t.map(fn));
+    }
+
+    /**
+     * Records the given function to be applied to the value once this turns out to be a `Success`,
+     * the `LazyTry` it returns is then evaluated in turn.
+     */
+    public<R> LazyTry<R> flatMap(Function<? super T, LazyTry<R>> fn) {
+        Objects.requireNonNull(fn);
+        return new LazyTry<>(BIND, this, fn, null);
+    }
+
+    /**
+     * Records a predicate that converts this to a `Failure` if it is not satisfied.
+     */
+    public LazyTry<T> filter(Predicate<? super T> predicate) {
+        Objects.requireNonNull(predicate);
+        return step((Try<T> t) -> t.filter(predicate));
+    }
+
+    /**
+     * Records the given function to be applied to the exception once this turns out to be a `Failure`.
+     */
+    public LazyTry<T> recover(Function<Throwable, ? extends T> fn) {
+        Objects.requireNonNull(fn);
+        return step((Try<T> t) -> t.<T>recover(e -> fn.apply(e)));
+    }
+
+    /**
+     * Records the given function to be applied to the exception once this turns out to be a `Failure`,
+     * the `LazyTry` it returns is then evaluated in turn.
+     */
+    public LazyTry<T> recoverWith(Function<Throwable, LazyTry<T>> fn) {
+        Objects.requireNonNull(fn);
+        return new LazyTry<>(BIND, this, null, fn);
+    }
+
+    /**
+     * Returns a `LazyTry` that evaluates to this if it turns out to be a `Success`, or evaluates
+     * `defaultValue` otherwise.  `defaultValue` is not evaluated unless this fails.
+     */
+    public LazyTry<T> orElse(LazyTry<T> defaultValue) {
+        Objects.requireNonNull(defaultValue);
+        return new LazyTry<>(BIND, this, null, (Function<Throwable, LazyTry<T>>) t -> defaultValue);
+    }
+
+    /**
+     * Evaluates this and returns `true` if it is a `Success`, `false` otherwise.
+     */
+    public boolean isSuccess() {
+        return evaluate().isSuccess();
+    }
+
+    /**
+     * Evaluates this and returns `true` if it is a `Failure`, `false` otherwise.
+     */
+    public boolean isFailure() {
+        return evaluate().isFailure();
+    }
+
+    /**
+     * Evaluates this and returns the value if it is a `Success` or throws the exception if it is a `Failure`.
+     */
+    public T get() {
+        return evaluate().get();
+    }
+
+    /**
+     * Evaluates this and returns the value if it is a `Success` or the given `default` argument otherwise.
+     */
+    public T getOrElse(final T defaultValue) {
+        return evaluate().getOrElse(defaultValue);
+    }
+
+    /**
+     * Evaluates this and applies the given function `fn` if it is a `Success`.
+     */
+    public void forEach(Consumer<? super T> fn) {
+        evaluate().forEach(fn);
+    }
+
+    /**
+     * Evaluates this and converts it to an `Optional`.
+     */
+    public Optional<T> toOptional() {
+        return evaluate().toOptional();
+    }
+
+    /**
+     * Evaluates this and returns its outcome.
+     */
+    public Try<T> toTry() {
+        return evaluate();
+    }
+
+    /**
+     * Returns `true` if the outcome has already been computed.
+     */
+    public boolean isEvaluated() {
+        return outcome != null;
+    }
+
+    private Try<T> evaluate() {
+        final Try<T> result = outcome;
+        return result != null ? result : run();
+    }
+
+    private<R> LazyTry<R> step(final Function<Try<T>, Try<R>> step) {
+        return new LazyTry<>(STEP, this, step, null);
+    }
+
+    /**
+     * Evaluates this in a loop: descends through the sources of the chain pushing the nodes that wait on
+     * them, then climbs back up applying each node to the outcome of its source.  A bind that returns
+     * another `LazyTry` pushes a `FORWARD` frame and descends into it.  Every node passed on the way up
+     * has its outcome memoized.
+     *
+     * A node is claimed before it is evaluated, so that threads forcing chains that share it evaluate it
+     * once: the others wait for its outcome.  If a fatal error stops the evaluation, the nodes claimed
+     * and not evaluated are released for the next reader to evaluate.
+     */
+    @SuppressWarnings("unchecked")
+    private Try<T> run() {
+        final ArrayDeque<Object> stack = new ArrayDeque<>();
+        LazyTry<?> current = this;
+        // the claimed node being evaluated while it is off the stack
+        LazyTry<?> running = null;
+        Try<?> result;
+
+        try {
+            while (true) {
+                // descend
+                while (true) {
+                    result = current.awaitOrClaim();
+                    if (result != null)
+                        break;
+
+                    running = current;
+                    if (current.kind == SUPPLY) {
+                        result = memoize(current, ((Supplier<Try<?>>) current.onSuccess).get());
+                        running = null;
+                        break;
+                    }
+                    if (current.kind == SUSPEND) {
+                        final LazyTry<?> next;
+                        try {
+                            next = ((Supplier<LazyTry<?>>) current.onSuccess).get();
+                        } catch (Throwable t) {
+                            result = memoize(current, Try.rethrowIfFatal(t));
+                            running = null;
+                            break;
+                        }
+                        stack.push(current);
+                        stack.push(FORWARD);
+                        running = null;
+                        current = next;
+                        continue;
+                    }
+                    stack.push(current);
+                    running = null;
+                    current = current.source;
+                }
+
+                // climb back up
+                LazyTry<?> next = null;
+                while (next == null && !stack.isEmpty()) {
+                    final Object frame = stack.pop();
+                    if (frame == FORWARD) {
+                        result = memoize((LazyTry<?>) stack.pop(), result);
+                        continue;
+                    }
+                    final LazyTry<?> node = (LazyTry<?>) frame;
+                    running = node;
+                    if (node.kind == STEP) {
+                        result = memoize(node, ((Function<Try<?>, Try<?>>) node.onSuccess).apply(result));
+                        running = null;
+                        continue;
+                    }
+                    final Object bind = result.isSuccess() ? node.onSuccess : node.onFailure;
+                    if (bind == null) {
+                        result = memoize(node, result);
+                        running = null;
+                        continue;
+                    }
+                    try {
+                        next = result.isSuccess()
+                                ? ((Function<Object, LazyTry<?>>) bind).apply(result.get())
+                                : ((Function<Throwable, LazyTry<?>>) bind).apply(((Failure<?>) result).throwable());
+                        stack.push(node);
+                        stack.push(FORWARD);
+                    } catch (Throwable t) {
+                        result = memoize(node, Try.rethrowIfFatal(t));
+                    }
+                    running = null;
+                }
+
+                if (next == null)
+                    return (Try<T>) result;
+
+                current = next;
+            }
+        } catch (Throwable fatal) {
+            if (running != null)
+                running.unclaim();
+            for (Object frame : stack) {
+                if (frame != FORWARD)
+                    ((LazyTry<?>) frame).unclaim();
+            }
+            throw fatal;
+        }
+    }
+
+    /**
+     * Returns the outcome of this, waiting for it if another thread is evaluating this, or `null`
+     * once the calling thread has claimed this and must evaluate it.
+     */
+    private Try<T> awaitOrClaim() {
+        boolean interrupted = false;
+        try {
+            while (true) {
+                final Try<T> result = outcome;
+                if (result != null)
+                    return result;
+                if (CLAIMED.compareAndSet(this, 0, 1))
+                    return outcome;
+
+                synchronized (this) {
+                    while (outcome == null && claimed == 1) {
+                        try {
+                            wait();
+                        } catch (InterruptedException e) {
+                            interrupted = true;
+                        }
+                    }
+                }
+            }
+        } finally {
+            if (interrupted)
+                Thread.currentThread().interrupt();
+        }
+    }
+
+    private synchronized void unclaim() {
+        claimed = 0;
+        notifyAll();
+    }
+
+    /**
+     * Records the outcome of a node claimed by the calling thread and wakes the threads waiting for it.
+     */
+    @SuppressWarnings("unchecked")
+    private static Try<?> memoize(final LazyTry<?> node, final Try<?> result) {
+        synchronized (node) {
+            ((LazyTry<Object>) node).outcome = (Try<Object>) result;
+            node.notifyAll();
+        }
+        return result;
+    }
+
+    @Override
+    public String toString() {
+        final Try<T> result = outcome;
+        return result == null ? "LazyTry(<not evaluated>)" : String.format("LazyTry(%s)", result);
+    }
+}
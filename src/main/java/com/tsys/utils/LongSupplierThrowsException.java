@@ -0,0 +1,6 @@
+package com.tsys.utils;
+
+@FunctionalInterface
+public interface LongSupplierThrowsException<E extends Throwable> {
+    long getAsLong() throws E;
+}
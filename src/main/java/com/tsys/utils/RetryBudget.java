@@ -0,0 +1,70 @@
+package com.tsys.utils;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A budget of retries shared by all the callers of a dependency, so that retries cannot
+ * multiply the load on it when it is failing.
+ *
+ * The budget holds up to `maxTokens` tokens and starts full.  Every failed attempt takes one
+ * token away and every successful one gives back `tokenRatio` tokens.  Retries are allowed only
+ * while more than half of the tokens are left, so once failures outnumber successes by enough,
+ * callers stop retrying until the dependency recovers.
+ *
+ * The budget is lock-free: the token count is a single `AtomicLong` updated by compare-and-set.
+ */
+public final class RetryBudget {
+    private static final long SCALE = 1000;
+
+    private final long maxTokens;
+    private final long tokenRatio;
+    private final AtomicLong tokens;
+
+    public RetryBudget(final int maxTokens, final double tokenRatio) {
+        if (maxTokens < 1)
+            throw new IllegalArgumentException("maxTokens must be at least 1, was " + maxTokens);
+        if (tokenRatio <= 0.0)
+            throw new IllegalArgumentException("tokenRatio must be positive, was " + tokenRatio);
+
+        this.maxTokens = maxTokens * SCALE;
+        this.tokenRatio = (long) (tokenRatio * SCALE);
+        this.tokens = new AtomicLong(this.maxTokens);
+    }
+
+    /**
+     * Returns `true` if more than half of the tokens are left.
+     */
+    public boolean allowsRetry() {
+        return tokens.get() > maxTokens / 2;
+    }
+
+    /**
+     * Returns the number of tokens left.
+     */
+    public double tokens() {
+        return (double) tokens.get() / SCALE;
+    }
+
+    void recordSuccess() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current == maxTokens)
+                return;
+        } while (!tokens.compareAndSet(current, Math.min(maxTokens, current + tokenRatio)));
+    }
+
+    void recordFailure() {
+        long current;
+        do {
+            current = tokens.get();
+            if (current == 0)
+                return;
+        } while (!tokens.compareAndSet(current, Math.max(0, current - SCALE)));
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryBudget(tokens=%s/%d)", tokens(), maxTokens / SCALE);
+    }
+}
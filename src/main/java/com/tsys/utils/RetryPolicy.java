@@ -0,0 +1,163 @@
+package com.tsys.utils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Decides whether, and after how long, `Try.retry` evaluates a failed supplier again.
+ *
+ * A policy is immutable, each `with...` method returns a new one.
+ *
+ * Example:
+ * {{{
+ *
+ * RetryPolicy policy = RetryPolicy.maxAttempts(5)
+ *                                 .withBackoff(Duration.ofMillis(50), Duration.ofSeconds(2), 2.0)
+ *                                 .withJitter(0.5)
+ *                                 .retryOn(SQLTransientException.class)
+ *                                 .withBudget(sharedBudget);
+ *
+ * Try<Connection> connection = Try.retry(() -> DriverManager.getConnection(url), policy);
+ *
+ * }}}
+ *
+ * Without `retryOn` every non-fatal exception is retried.  Without `withBackoff` attempts follow
+ * each other immediately.
+ */
+public final class RetryPolicy {
+    private final int maxAttempts;
+    private final long initialBackoffNanos;
+    private final long maxBackoffNanos;
+    private final double multiplier;
+    private final double jitter;
+    private final List<Class<? extends Throwable>> retryOn;
+    private final RetryBudget budget;
+
+    private RetryPolicy(final int maxAttempts, final long initialBackoffNanos, final long maxBackoffNanos,
+                        final double multiplier, final double jitter,
+                        final List<Class<? extends Throwable>> retryOn, final RetryBudget budget) {
+        this.maxAttempts = maxAttempts;
+        this.initialBackoffNanos = initialBackoffNanos;
+        this.maxBackoffNanos = maxBackoffNanos;
+        this.multiplier = multiplier;
+        this.jitter = jitter;
+        this.retryOn = retryOn;
+        this.budget = budget;
+    }
+
+    /**
+     * Returns a policy that evaluates the supplier at most `maxAttempts` times, the first attempt included.
+     */
+    public static RetryPolicy maxAttempts(final int maxAttempts) {
+        if (maxAttempts < 1)
+            throw new IllegalArgumentException("maxAttempts must be at least 1, was " + maxAttempts);
+
+        return new RetryPolicy(maxAttempts, 0, 0, 1.0, 0.0, Collections.emptyList(), null);
+    }
+
+    /**
+     * Waits `initial` before the first retry, and `multiplier` times longer before each next one,
+     * up to `max`.
+     */
+    public RetryPolicy withBackoff(final Duration initial, final Duration max, final double multiplier) {
+        Objects.requireNonNull(initial);
+        Objects.requireNonNull(max);
+        if (initial.isNegative() || max.compareTo(initial) < 0)
+            throw new IllegalArgumentException("backoff must satisfy 0 <= initial <= max");
+        if (multiplier < 1.0)
+            throw new IllegalArgumentException("multiplier must be at least 1, was " + multiplier);
+
+        return new RetryPolicy(maxAttempts, initial.toNanos(), max.toNanos(), multiplier, jitter, retryOn, budget);
+    }
+
+    /**
+     * Shortens each backoff by a random fraction of up to `jitter` (between 0 and 1) of it, so that
+     * callers that failed together do not retry together.
+     */
+    public RetryPolicy withJitter(final double jitter) {
+        if (jitter < 0.0 || jitter > 1.0)
+            throw new IllegalArgumentException("jitter must be between 0 and 1, was " + jitter);
+
+        return new RetryPolicy(maxAttempts, initialBackoffNanos, maxBackoffNanos, multiplier, jitter, retryOn, budget);
+    }
+
+    /**
+     * Retries only failures that are instances of one of the given types.
+     */
+    @SafeVarargs
+    public final RetryPolicy retryOn(final Class<? extends Throwable>... types) {
+        Objects.requireNonNull(types);
+        final List<Class<? extends Throwable>> retryOn = new ArrayList<>(types.length);
+        for (Class<? extends Throwable> type : types) {
+            retryOn.add(Objects.requireNonNull(type));
+        }
+        return new RetryPolicy(maxAttempts, initialBackoffNanos, maxBackoffNanos, multiplier, jitter,
+                Collections.unmodifiableList(retryOn), budget);
+    }
+
+    /**
+     * Retries only while the given budget, usually shared by every caller of a dependency, allows it.
+     */
+    public RetryPolicy withBudget(final RetryBudget budget) {
+        Objects.requireNonNull(budget);
+        return new RetryPolicy(maxAttempts, initialBackoffNanos, maxBackoffNanos, multiplier, jitter, retryOn, budget);
+    }
+
+    public int maxAttempts() {
+        return maxAttempts;
+    }
+
+    /**
+     * Records the outcome of attempt number `attempt` (starting at 1) and decides whether to try again.
+     */
+    boolean shouldRetry(final Try<?> outcome, final int attempt) {
+        if (outcome.isSuccess()) {
+            if (budget != null)
+                budget.recordSuccess();
+            return false;
+        }
+        if (budget != null)
+            budget.recordFailure();
+
+        return attempt < maxAttempts
+                && retries(((Failure<?>) outcome).throwable())
+                && (budget == null || budget.allowsRetry());
+    }
+
+    /**
+     * Returns how long to wait after attempt number `attempt` (starting at 1) has failed.
+     */
+    long backoffNanos(final int attempt) {
+        if (initialBackoffNanos == 0)
+            return 0;
+
+        final double exponential = initialBackoffNanos * Math.pow(multiplier, attempt - 1);
+        final long backoff = (long) Math.min(exponential, maxBackoffNanos);
+        if (jitter == 0.0)
+            return backoff;
+
+        return backoff - (long) (backoff * jitter * ThreadLocalRandom.current().nextDouble());
+    }
+
+    private boolean retries(final Throwable t) {
+        if (retryOn.isEmpty())
+            return true;
+
+        for (Class<? extends Throwable> type : retryOn) {
+            if (type.isInstance(t))
+                return true;
+        }
+        return false;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("RetryPolicy(maxAttempts=%d, backoff=%s..%s x%s, jitter=%s, retryOn=%s)",
+                maxAttempts, Duration.ofNanos(initialBackoffNanos), Duration.ofNanos(maxBackoffNanos),
+                multiplier, jitter, retryOn);
+    }
+}
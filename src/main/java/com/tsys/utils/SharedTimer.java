@@ -0,0 +1,31 @@
+package com.tsys.utils;
+
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The single timer thread behind `withTimeout` and `hedge`.
+ *
+ * Pending timeouts are entries in the delay queue of one daemon `ScheduledThreadPoolExecutor`,
+ * so tens of thousands of them cost a heap entry each rather than a thread each.  Cancelled
+ * entries are removed from the queue straight away, since most timeouts are cancelled long
+ * before they are due.  Tasks run on the timer thread and must only complete futures.
+ */
+final class SharedTimer {
+    private static final ScheduledThreadPoolExecutor timer = new ScheduledThreadPoolExecutor(1, runnable -> {
+        final Thread thread = new Thread(runnable, "try-timer");
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    static {
+        timer.setRemoveOnCancelPolicy(true);
+    }
+
+    private SharedTimer() { }
+
+    static ScheduledFuture<?> schedule(final Runnable task, final long delayNanos) {
+        return timer.schedule(task, delayNanos, TimeUnit.NANOSECONDS);
+    }
+}
@@ -0,0 +1,85 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Coalesces concurrent evaluations of a loader for the same key: while one caller is loading
+ * a key, the others asking for it wait for and share its `Try`, `Success` or `Failure` alike,
+ * instead of each running their own load against the backend.
+ *
+ * Nothing is remembered once a load completes, the next caller for that key loads again, see
+ * `TryCache` for keeping the outcomes around.
+ *
+ * Example:
+ * {{{
+ *
+ * SingleFlight<String, Connection> connect = SingleFlight.of(DriverManager::getConnection);
+ *
+ * Try<Connection> connection = connect.get(url);
+ *
+ * }}}
+ *
+ * Only callers of the same key wait on each other: the in-flight loads are kept in a
+ * `ConcurrentHashMap`, claimed with `putIfAbsent` and released once done, so the loader never
+ * runs under a lock.
+ */
+public final class SingleFlight<K, V> {
+    private final Function<? super K, Try<V>> loader;
+    private final ConcurrentHashMap<K, CompletableFuture<Try<V>>> inFlight = new ConcurrentHashMap<>();
+
+    SingleFlight(final Function<? super K, Try<V>> loader) {
+        this.loader = loader;
+    }
+
+    public static<K, V> SingleFlight<K, V> of(FunctionThrowsException<? super K, ? extends V, ?> loader) {
+        Objects.requireNonNull(loader);
+        return new SingleFlight<>(key -> load(loader, key));
+    }
+
+    /**
+     * Loads the key, or waits for the load already in flight for it and returns its outcome.  A caller
+     * interrupted while waiting gets a `Failure` of the `InterruptedException`, with its interrupt flag
+     * restored, and the load carries on for the others.
+     */
+    public Try<V> get(final K key) {
+        Objects.requireNonNull(key);
+        final CompletableFuture<Try<V>> mine = new CompletableFuture<>();
+        final CompletableFuture<Try<V>> leader = inFlight.putIfAbsent(key, mine);
+        if (leader != null)
+            return new TryFuture<>(leader).get();
+
+        try {
+            final Try<V> outcome = loader.apply(key);
+            mine.complete(outcome);
+            return outcome;
+        } catch (Throwable fatal) {
+            mine.completeExceptionally(fatal);
+            throw fatal;
+        } finally {
+            inFlight.remove(key, mine);
+        }
+    }
+
+    /**
+     * Returns the number of keys being loaded right now.
+     */
+    public int inFlight() {
+        return inFlight.size();
+    }
+
+    static<K, V> Try<V> load(final FunctionThrowsException<? super K, ? extends V, ?> loader, final K key) {
+        try {
+            return Success.valueOf(loader.apply(key));
+        } catch (Throwable t) {
+            return Try.rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SingleFlight(inFlight=%d)", inFlight());
+    }
+}
@@ -1,18 +1,61 @@
 package com.tsys.utils;
 
-import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
+import java.util.function.ToDoubleFunction;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
 
 public class Success<T> extends Try<T> {
+    private static final int LOW = -128;
+    private static final int HIGH = 127;
+
+    private static final Success<?> NULL = new Success<>(null);
+    private static final Success<Boolean> TRUE = new Success<>(Boolean.TRUE);
+    private static final Success<Boolean> FALSE = new Success<>(Boolean.FALSE);
+    private static final Success<?>[] INTEGERS = new Success<?>[HIGH - LOW + 1];
+
+    static {
+        for (int i = 0; i < INTEGERS.length; i++) {
+            INTEGERS[i] = new Success<>(Integer.valueOf(i + LOW));
+        }
+    }
+
     private final T value;
 
     public Success(final T value) {
         this.value = value;
     }
 
+    /**
+     * Returns a `Success` of the given value.  Like `Integer.valueOf`, the common values
+     * `null`, `Boolean.TRUE`, `Boolean.FALSE` and the cached `Integer`s from -128 to 127
+     * are served from shared instances, every other value gets a new `Success`.
+     */
+    @SuppressWarnings("unchecked")
+    public static <T> Success<T> valueOf(final T value) {
+        if (value == null)
+            return (Success<T>) NULL;
+
+        if (value == Boolean.TRUE)
+            return (Success<T>) TRUE;
+
+        if (value == Boolean.FALSE)
+            return (Success<T>) FALSE;
+
+        if (value instanceof Integer) {
+            final int i = (Integer) value;
+            if (i >= LOW && i <= HIGH) {
+                final Success<?> cached = INTEGERS[i - LOW];
+                if (cached.value == value)
+                    return (Success<T>) cached;
+            }
+        }
+        return new Success<>(value);
+    }
+
     @Override
     public boolean isSuccess() { return true;  }
 
@@ -31,14 +74,14 @@ public class Success<T> extends Try<T> {
     @Override
     public Try<T> filter(Predicate<? super T> predicate) {
         Objects.requireNonNull(predicate);
+        final long start = Instrumentation.start();
+        Try<T> outcome;
         try {
-            if (predicate.test(value))
-                return this;
-            else
-                return new Failure<>(new NoSuchElementException("predicate does not hold"));
+            outcome = predicate.test(value) ? this : Failure.predicateDoesNotHold();
         } catch (Throwable t) {
-            return rethrowIfFatal(t);
+            outcome = rethrowIfFatal(t);
         }
+        return Instrumentation.record("Success.filter", start, outcome);
     }
 
     @Override
@@ -53,16 +96,20 @@ public class Success<T> extends Try<T> {
 
     @Override
     public <R> Try<R> transform(Function<T, Try<R>> s, Function<Throwable, Try<R>> fn) {
+        final long start = Instrumentation.start();
+        Try<R> outcome;
         try {
-            return s.apply(value);
+            outcome = s.apply(value);
         } catch (Throwable t) {
-            return rethrowIfFatal(t);
+            outcome = rethrowIfFatal(t);
         }
+        return Instrumentation.record("Success.transform", start, outcome);
     }
 
     @Override
     public Try<T> failed() {
-        return new Failure<>(new UnsupportedOperationException("Success failed"));
+        final FailureMode mode = failureMode();
+        return new Failure<>(Failure.unsupported("Success failed", mode), mode);
     }
 
     @Override
@@ -73,15 +120,42 @@ public class Success<T> extends Try<T> {
     @Override
     public <R> Try<R> map(Function<? super T, ? extends R> mapper) {
         Objects.requireNonNull(mapper);
-        try { return new Success<>(mapper.apply(value)); }
-        catch (Throwable t) { return rethrowIfFatal(t); }
+        final long start = Instrumentation.start();
+        Try<R> outcome;
+        try { outcome = Success.valueOf(mapper.apply(value)); }
+        catch (Throwable t) { outcome = rethrowIfFatal(t); }
+        return Instrumentation.record("Success.map", start, outcome);
+    }
+
+    @Override
+    public TryInt mapToInt(ToIntFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessInt(mapper.applyAsInt(value)); }
+        catch (Throwable t) { return TryInt.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryLong mapToLong(ToLongFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessLong(mapper.applyAsLong(value)); }
+        catch (Throwable t) { return TryLong.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryDouble mapToDouble(ToDoubleFunction<? super T> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessDouble(mapper.applyAsDouble(value)); }
+        catch (Throwable t) { return TryDouble.rethrowIfFatal(t); }
     }
 
     @Override
     public <R> Try<R> flatMap(Function<? super T, Try<R>> mapper) {
         Objects.requireNonNull(mapper);
-        try { return mapper.apply(value); }
-        catch(Throwable t) { return rethrowIfFatal(t); }
+        final long start = Instrumentation.start();
+        Try<R> outcome;
+        try { outcome = mapper.apply(value); }
+        catch(Throwable t) { outcome = rethrowIfFatal(t); }
+        return Instrumentation.record("Success.flatMap", start, outcome);
     }
 
     @Override
@@ -0,0 +1,101 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public class SuccessDouble extends TryDouble {
+    private final double value;
+
+    public SuccessDouble(final double value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isSuccess() { return true;  }
+
+    @Override
+    public boolean isFailure() { return false; }
+
+    @Override
+    public double getAsDouble() { return value; }
+
+    @Override
+    public TryDouble map(DoubleUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessDouble(mapper.applyAsDouble(value)); }
+        catch (Throwable t) { return rethrowIfFatal(t); }
+    }
+
+    @Override
+    public <R> Try<R> mapToObj(DoubleFunction<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return Success.valueOf(mapper.apply(value)); }
+        catch (Throwable t) { return Try.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryInt mapToInt(DoubleToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessInt(mapper.applyAsInt(value)); }
+        catch (Throwable t) { return TryInt.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryLong mapToLong(DoubleToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessLong(mapper.applyAsLong(value)); }
+        catch (Throwable t) { return TryLong.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryDouble flatMap(DoubleFunction<TryDouble> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return mapper.apply(value); }
+        catch (Throwable t) { return rethrowIfFatal(t); }
+    }
+
+    @Override
+    public void forEach(DoubleConsumer fn) {
+        Objects.requireNonNull(fn);
+        fn.accept(value);
+    }
+
+    @Override
+    public TryDouble filter(DoublePredicate predicate) {
+        Objects.requireNonNull(predicate);
+        try {
+            if (predicate.test(value))
+                return this;
+            else
+                return new FailureDouble(Failure.PREDICATE_DOES_NOT_HOLD);
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public TryDouble recover(ToDoubleFunction<Throwable> fn) {
+        return this;
+    }
+
+    @Override
+    public TryDouble recoverWith(Function<Throwable, TryDouble> fn) {
+        return this;
+    }
+
+    @Override
+    public Try<Throwable> failed() {
+        final FailureMode mode = Try.failureMode();
+        return new Failure<>(Failure.unsupported("Success failed", mode), mode);
+    }
+
+    @Override
+    public Try<Double> boxed() {
+        return Success.valueOf(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuccessDouble(%s)", value);
+    }
+}
@@ -0,0 +1,101 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public class SuccessInt extends TryInt {
+    private final int value;
+
+    public SuccessInt(final int value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isSuccess() { return true;  }
+
+    @Override
+    public boolean isFailure() { return false; }
+
+    @Override
+    public int getAsInt() { return value; }
+
+    @Override
+    public TryInt map(IntUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessInt(mapper.applyAsInt(value)); }
+        catch (Throwable t) { return rethrowIfFatal(t); }
+    }
+
+    @Override
+    public <R> Try<R> mapToObj(IntFunction<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return Success.valueOf(mapper.apply(value)); }
+        catch (Throwable t) { return Try.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryLong mapToLong(IntToLongFunction mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessLong(mapper.applyAsLong(value)); }
+        catch (Throwable t) { return TryLong.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryDouble mapToDouble(IntToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessDouble(mapper.applyAsDouble(value)); }
+        catch (Throwable t) { return TryDouble.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryInt flatMap(IntFunction<TryInt> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return mapper.apply(value); }
+        catch (Throwable t) { return rethrowIfFatal(t); }
+    }
+
+    @Override
+    public void forEach(IntConsumer fn) {
+        Objects.requireNonNull(fn);
+        fn.accept(value);
+    }
+
+    @Override
+    public TryInt filter(IntPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        try {
+            if (predicate.test(value))
+                return this;
+            else
+                return new FailureInt(Failure.PREDICATE_DOES_NOT_HOLD);
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public TryInt recover(ToIntFunction<Throwable> fn) {
+        return this;
+    }
+
+    @Override
+    public TryInt recoverWith(Function<Throwable, TryInt> fn) {
+        return this;
+    }
+
+    @Override
+    public Try<Throwable> failed() {
+        final FailureMode mode = Try.failureMode();
+        return new Failure<>(Failure.unsupported("Success failed", mode), mode);
+    }
+
+    @Override
+    public Try<Integer> boxed() {
+        return Success.valueOf(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuccessInt(%s)", value);
+    }
+}
@@ -0,0 +1,101 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.*;
+
+public class SuccessLong extends TryLong {
+    private final long value;
+
+    public SuccessLong(final long value) {
+        this.value = value;
+    }
+
+    @Override
+    public boolean isSuccess() { return true;  }
+
+    @Override
+    public boolean isFailure() { return false; }
+
+    @Override
+    public long getAsLong() { return value; }
+
+    @Override
+    public TryLong map(LongUnaryOperator mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessLong(mapper.applyAsLong(value)); }
+        catch (Throwable t) { return rethrowIfFatal(t); }
+    }
+
+    @Override
+    public <R> Try<R> mapToObj(LongFunction<? extends R> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return Success.valueOf(mapper.apply(value)); }
+        catch (Throwable t) { return Try.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryInt mapToInt(LongToIntFunction mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessInt(mapper.applyAsInt(value)); }
+        catch (Throwable t) { return TryInt.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryDouble mapToDouble(LongToDoubleFunction mapper) {
+        Objects.requireNonNull(mapper);
+        try { return new SuccessDouble(mapper.applyAsDouble(value)); }
+        catch (Throwable t) { return TryDouble.rethrowIfFatal(t); }
+    }
+
+    @Override
+    public TryLong flatMap(LongFunction<TryLong> mapper) {
+        Objects.requireNonNull(mapper);
+        try { return mapper.apply(value); }
+        catch (Throwable t) { return rethrowIfFatal(t); }
+    }
+
+    @Override
+    public void forEach(LongConsumer fn) {
+        Objects.requireNonNull(fn);
+        fn.accept(value);
+    }
+
+    @Override
+    public TryLong filter(LongPredicate predicate) {
+        Objects.requireNonNull(predicate);
+        try {
+            if (predicate.test(value))
+                return this;
+            else
+                return new FailureLong(Failure.PREDICATE_DOES_NOT_HOLD);
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    @Override
+    public TryLong recover(ToLongFunction<Throwable> fn) {
+        return this;
+    }
+
+    @Override
+    public TryLong recoverWith(Function<Throwable, TryLong> fn) {
+        return this;
+    }
+
+    @Override
+    public Try<Throwable> failed() {
+        final FailureMode mode = Try.failureMode();
+        return new Failure<>(Failure.unsupported("Success failed", mode), mode);
+    }
+
+    @Override
+    public Try<Long> boxed() {
+        return Success.valueOf(value);
+    }
+
+    @Override
+    public String toString() {
+        return String.format("SuccessLong(%s)", value);
+    }
+}
@@ -1,8 +1,15 @@
 package com.tsys.utils;
 
-import java.util.NoSuchElementException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
 import java.util.function.*;
 
 /**
@@ -47,7 +54,10 @@ import java.util.function.*;
  * in the case of failure.
  *
  * Note: only non-fatal exceptions are caught by the combinators on `Try`. Serious system errors, on the other hand,
- * will be thrown.
+ * will be thrown. Which ones are fatal is decided by the installed `FatalityPolicy`.
+ *
+ * Note: `Try` combinators run eagerly, so a recursive chain like `divide` above grows the call stack on every
+ * retry. Use `LazyTry`, whose evaluation is trampolined, for chains that may recurse deeply.
  *
  * Note: All Try combinators will catch exceptions and return failure unless otherwise specified in the documentation.
  *
@@ -57,6 +67,12 @@ import java.util.function.*;
 
 public abstract class Try<T> {
 
+    private static volatile FailureMode failureMode = FailureMode.WRAPPED;
+
+    private static volatile TryMetrics metrics;
+
+    private static volatile FatalityPolicy fatalityPolicy = FatalityPolicy.DEFAULT;
+
     /**
      * Returns `true` if the `Try` is a `Failure`, `false` otherwise.
      */
@@ -98,6 +114,24 @@ public abstract class Try<T> {
      */
     public abstract<R> Try<R> map(Function<? super T, ? extends R> fn);
 
+    /**
+     * Returns the given function applied to the value from this `Success` as a `TryInt`,
+     * or returns this failure as a `FailureInt` if this is a `Failure`.
+     */
+    public abstract TryInt mapToInt(ToIntFunction<? super T> fn);
+
+    /**
+     * Returns the given function applied to the value from this `Success` as a `TryLong`,
+     * or returns this failure as a `FailureLong` if this is a `Failure`.
+     */
+    public abstract TryLong mapToLong(ToLongFunction<? super T> fn);
+
+    /**
+     * Returns the given function applied to the value from this `Success` as a `TryDouble`,
+     * or returns this failure as a `FailureDouble` if this is a `Failure`.
+     */
+    public abstract TryDouble mapToDouble(ToDoubleFunction<? super T> fn);
+
     /**
      * Returns the given function applied to the value from this `Success` or returns this if this is a `Failure`.
      */
@@ -155,18 +189,36 @@ public abstract class Try<T> {
      */
     public abstract <R extends Try<?>> R flatten();
 
+    /**
+     * Returns the shared `Success` of a computation that has no value, ie, a `Success` of `null`.
+     */
+    public static Try<Void> unit() {
+        return Success.valueOf(null);
+    }
+
     /**
      * Constructs a `Try` using a supplier that throws checked exception.
      * This method will ensure any non-fatal exception is caught and a `Failure` object
      * is returned.
      */
     public static<T, E extends Throwable> Try<T> with(SupplierThrowsException<T, E> ste) {
+        return with("Try.with", ste);
+    }
+
+    /**
+     * Same as `with(ste)`, recording the outcome and duration under `name` in the installed `TryMetrics`.
+     */
+    public static<T, E extends Throwable> Try<T> with(String name, SupplierThrowsException<T, E> ste) {
+        Objects.requireNonNull(name);
         Objects.requireNonNull(ste);
+        final long start = Instrumentation.start();
+        Try<T> outcome;
         try {
-            return new Success<>(ste.get());
+            outcome = Success.valueOf(ste.get());
         } catch (Throwable t) {
-            return rethrowIfFatal(t);
+            outcome = rethrowIfFatal(t);
         }
+        return Instrumentation.record(name, start, outcome);
     }
 
     /**
@@ -210,8 +262,7 @@ public abstract class Try<T> {
     public static<T, E extends Throwable> Try<T> with(PredicateThrowsException<T, E> pte, T t) {
         Objects.requireNonNull(pte);
         try {
-            return pte.test(t) ? new Success<>(t)
-                    : new Failure(new NoSuchElementException("predicate does not hold"));
+            return pte.test(t) ? Success.valueOf(t) : Failure.predicateDoesNotHold();
         } catch (Throwable e) {
             return rethrowIfFatal(e);
         }
@@ -225,8 +276,7 @@ public abstract class Try<T> {
     public static<T> Try<T> with(Predicate<T> predicate, T t) {
         Objects.requireNonNull(predicate);
         try {
-            return predicate.test(t) ? new Success<>(t)
-                    : new Failure<>(new NoSuchElementException("predicate does not hold"));
+            return predicate.test(t) ? Success.valueOf(t) : Failure.predicateDoesNotHold();
         } catch (Throwable e) {
             return rethrowIfFatal(e);
         }
@@ -281,6 +331,235 @@ public abstract class Try<T> {
         return Try.with((Supplier<R>) () -> biFn.apply(t, u));
     }
 
+    /**
+     * Evaluates a supplier that throws checked exception, and evaluates it again as long as it fails
+     * and the `RetryPolicy` allows, waiting out the policy's backoff in between.  Returns the outcome
+     * of the last attempt.
+     *
+     * ''Note:'' the backoff is spent sleeping on the calling thread, use `TryFuture.retry` to wait it
+     * out on a scheduler instead.  If the calling thread is interrupted while waiting, no further
+     * attempts are made, the last `Failure` is returned and the interrupt status is restored.
+     */
+    public static<T, E extends Throwable> Try<T> retry(SupplierThrowsException<T, E> ste, RetryPolicy policy) {
+        Objects.requireNonNull(ste);
+        Objects.requireNonNull(policy);
+        for (int attempt = 1; ; attempt++) {
+            final Try<T> outcome = Try.with(ste);
+            if (!policy.shouldRetry(outcome, attempt))
+                return outcome;
+
+            final long backoff = policy.backoffNanos(attempt);
+            if (backoff > 0) {
+                try {
+                    TimeUnit.NANOSECONDS.sleep(backoff);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return outcome;
+                }
+            }
+        }
+    }
+
+    /**
+     * Evaluates a supplier that throws checked exception on the given executor and waits at most
+     * `timeout` for it.  Returns a `Failure` of `TimeoutException` once the deadline passes, and the
+     * supplier is interrupted, or never started if it was still queued.  See `TryFuture.withTimeout`.
+     */
+    public static<T, E extends Throwable> Try<T> withTimeout(SupplierThrowsException<T, E> ste, Duration timeout,
+                                                             Executor executor) {
+        return TryFuture.withTimeout(ste, timeout, executor).get();
+    }
+
+    /**
+     * Races redundant alternatives on virtual threads and waits for the first `Success`, starting each
+     * next alternative only if the earlier ones have not finished within `delay`.  The losers are
+     * cancelled.  Returns a `Failure` only when every alternative fails.  See `TryFuture.hedge`.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static<T> Try<T> hedge(Duration delay, SupplierThrowsException<T, ?>... alternatives) {
+        return TryFuture.hedge(delay, VirtualThreads.executor(), alternatives).get();
+    }
+
+    /**
+     * Evaluates a supplier that throws checked exception on a virtual thread and returns
+     * a `TryFuture` of its outcome.  Meant for blocking work (JDBC, files, sockets) that
+     * would otherwise tie up a platform thread per call.
+     *
+     * ''Note:'' virtual threads need Java 21, on older runtimes the supplier runs on a
+     * shared pool of daemon platform threads instead.
+     */
+    public static<T, E extends Throwable> TryFuture<T> onVirtualThread(SupplierThrowsException<T, E> ste) {
+        return TryFuture.with(ste, VirtualThreads.executor());
+    }
+
+    /**
+     * Evaluates each of the suppliers on its own virtual thread, waits for all of them and returns
+     * their outcomes in the same order.  See `onVirtualThread`.
+     */
+    public static<T> List<Try<T>> onVirtualThreads(List<? extends SupplierThrowsException<T, ?>> stes) {
+        Objects.requireNonNull(stes);
+        final List<TryFuture<T>> futures = new ArrayList<>(stes.size());
+        for (SupplierThrowsException<T, ?> ste : stes) {
+            futures.add(onVirtualThread(ste));
+        }
+        final List<Try<T>> outcomes = new ArrayList<>(futures.size());
+        for (TryFuture<T> future : futures) {
+            outcomes.add(future.get());
+        }
+        return outcomes;
+    }
+
+    /**
+     * Turns tries of values into a `Try` of a list of the values.  Returns the first `Failure`
+     * as soon as it is met, without looking at the tries after it.
+     *
+     * The values are written straight into an array sized from the collection, the returned
+     * list is a read-only view of it.
+     */
+    @SuppressWarnings("unchecked")
+    public static<T> Try<List<T>> sequence(Iterable<? extends Try<? extends T>> tries) {
+        Objects.requireNonNull(tries);
+        Object[] values = new Object[initialCapacity(tries)];
+        int size = 0;
+        for (Try<? extends T> t : tries) {
+            if (t.isFailure())
+                return (Try<List<T>>) t;
+
+            if (size == values.length)
+                values = Arrays.copyOf(values, grow(size));
+
+            values[size++] = t.get();
+        }
+        return new Success<>(asList(values, size));
+    }
+
+    /**
+     * Applies a function that throws checked exception to each of the inputs and returns
+     * a `Try` of a list of the results.  Stops at the first input the function fails on and
+     * returns that `Failure`, the remaining inputs are not looked at.
+     *
+     * Unlike mapping each input to a `Try` and then calling `sequence`, no `Try` is created per input.
+     */
+    @SuppressWarnings("unchecked")
+    public static<T, R, E extends Throwable> Try<List<R>> traverse(Iterable<? extends T> inputs,
+                                                                   FunctionThrowsException<? super T, ? extends R, E> fte) {
+        Objects.requireNonNull(inputs);
+        Objects.requireNonNull(fte);
+        Object[] values = new Object[initialCapacity(inputs)];
+        int size = 0;
+        try {
+            for (T input : inputs) {
+                if (size == values.length)
+                    values = Arrays.copyOf(values, grow(size));
+
+                values[size++] = fte.apply(input);
+            }
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+        return new Success<>(asList(values, size));
+    }
+
+    /**
+     * Opens a resource, applies the body to it and closes it, whatever the outcome of the body.
+     * A failure to open, to apply or to close becomes a `Failure`, a failure to close after the
+     * body failed is attached to the body's exception as suppressed.
+     * {{{
+     *
+     * Try<List<String>> lines = Try.withResources(() -> Files.newBufferedReader(path), reader -> readAll(reader));
+     *
+     * }}}
+     *
+     * This is a plain try-with-resources: nothing is allocated besides the outcome.
+     */
+    @SuppressWarnings("try")
+    public static<A extends AutoCloseable, R> Try<R> withResources(SupplierThrowsException<? extends A, ?> resource,
+                                                                   FunctionThrowsException<? super A, ? extends R, ?> body) {
+        Objects.requireNonNull(resource);
+        Objects.requireNonNull(body);
+        final long start = Instrumentation.start();
+        Try<R> outcome;
+        try (A a = resource.get()) {
+            outcome = Success.valueOf(body.apply(a));
+        } catch (Throwable t) {
+            // also reached when closing fails after the body succeeded
+            outcome = rethrowIfFatal(t);
+        }
+        return Instrumentation.record("Try.withResources", start, outcome);
+    }
+
+    /**
+     * Same as `withResources(resource, body)` for two resources, opened in order and closed in reverse
+     * order.  If opening the second fails, the first is closed.
+     */
+    @SuppressWarnings("try")
+    public static<A extends AutoCloseable, B extends AutoCloseable, R> Try<R> withResources(
+            SupplierThrowsException<? extends A, ?> first, SupplierThrowsException<? extends B, ?> second,
+            BiFunctionThrowsException<? super A, ? super B, ? extends R, ?> body) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        Objects.requireNonNull(body);
+        final long start = Instrumentation.start();
+        Try<R> outcome;
+        try (A a = first.get(); B b = second.get()) {
+            outcome = Success.valueOf(body.apply(a, b));
+        } catch (Throwable t) {
+            // also reached when closing fails after the body succeeded
+            outcome = rethrowIfFatal(t);
+        }
+        return Instrumentation.record("Try.withResources", start, outcome);
+    }
+
+    /**
+     * Same as `withResources(first, second, body)` for a second resource opened from the first, such as
+     * a `Statement` from a `Connection`.
+     */
+    @SuppressWarnings("try")
+    public static<A extends AutoCloseable, B extends AutoCloseable, R> Try<R> withResources(
+            SupplierThrowsException<? extends A, ?> first, FunctionThrowsException<? super A, ? extends B, ?> second,
+            BiFunctionThrowsException<? super A, ? super B, ? extends R, ?> body) {
+        Objects.requireNonNull(first);
+        Objects.requireNonNull(second);
+        Objects.requireNonNull(body);
+        final long start = Instrumentation.start();
+        Try<R> outcome;
+        try (A a = first.get(); B b = second.apply(a)) {
+            outcome = Success.valueOf(body.apply(a, b));
+        } catch (Throwable t) {
+            // also reached when closing fails after the body succeeded
+            outcome = rethrowIfFatal(t);
+        }
+        return Instrumentation.record("Try.withResources", start, outcome);
+    }
+
+    /**
+     * Applies a function that throws checked exception to every input and returns the outcomes
+     * as a `BatchResult`, without creating a `Try` per input.  Large arrays are split across
+     * the common fork-join pool, so the function must be safe to call from several threads.
+     * Fatal exceptions are thrown.
+     */
+    public static<T, R, E extends Throwable> BatchResult<R> withBatch(FunctionThrowsException<? super T, ? extends R, E> fte,
+                                                                       T[] inputs) {
+        Objects.requireNonNull(fte);
+        Objects.requireNonNull(inputs);
+        return BatchResult.of(fte, inputs);
+    }
+
+    private static int initialCapacity(final Iterable<?> iterable) {
+        return iterable instanceof Collection ? ((Collection<?>) iterable).size() : 16;
+    }
+
+    private static int grow(final int size) {
+        return Math.max(16, size + (size >> 1));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static<T> List<T> asList(final Object[] values, final int size) {
+        final Object[] trimmed = size == values.length ? values : Arrays.copyOf(values, size);
+        return Collections.unmodifiableList((List<T>) Arrays.asList(trimmed));
+    }
+
     /**
      * Wrap a predicate that throws exception in a predicate that can take care of
      * the checked exception and morph it to a Predicate.  Typically useful in
@@ -298,6 +577,51 @@ public abstract class Try<T> {
         };
     }
 
+    /**
+     * Sets the `FailureMode` that newly created `Failure`s use, unless one is passed explicitly.
+     * The default is `FailureMode.WRAPPED`.
+     */
+    public static void failureMode(final FailureMode mode) {
+        failureMode = Objects.requireNonNull(mode);
+    }
+
+    /**
+     * Returns the `FailureMode` that newly created `Failure`s use.
+     */
+    public static FailureMode failureMode() {
+        return failureMode;
+    }
+
+    /**
+     * Installs the `TryMetrics` that `Try.with` and the combinators report to, `null` to stop reporting.
+     * Nothing is reported by default.
+     */
+    public static void metrics(final TryMetrics installed) {
+        metrics = installed;
+    }
+
+    /**
+     * Returns the installed `TryMetrics`, or `null` if there is none.
+     */
+    public static TryMetrics metrics() {
+        return metrics;
+    }
+
+    /**
+     * Sets the `FatalityPolicy` deciding which throwables are thrown on rather than caught into a `Failure`.
+     * The default is `FatalityPolicy.DEFAULT`.
+     */
+    public static void fatalityPolicy(final FatalityPolicy policy) {
+        fatalityPolicy = Objects.requireNonNull(policy);
+    }
+
+    /**
+     * Returns the `FatalityPolicy` in use.
+     */
+    public static FatalityPolicy fatalityPolicy() {
+        return fatalityPolicy;
+    }
+
     static<T> Try<T> rethrowIfFatal(final Throwable t) {
         if (fatal(t)) {
             throw new RuntimeException(t);
@@ -306,20 +630,6 @@ public abstract class Try<T> {
     }
 
     static boolean fatal(final Throwable t) {
-        Class<? extends Throwable> throwableClass = t.getClass();
-
-        // StackOverflowError ok even though it is a VirtualMachineError
-        if(throwableClass == StackOverflowError.class) {
-            return false;
-        }
-
-        if (t instanceof VirtualMachineError
-            || throwableClass == ThreadDeath.class
-            || throwableClass == InterruptedException.class
-            || throwableClass == LinkageError.class) {
-            return true;
-        }
-
-       return false;
+        return fatalityPolicy.isFatal(t);
     }
 }
@@ -0,0 +1,267 @@
+package com.tsys.utils;
+
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A concurrent, size-bounded cache of the outcomes of a loader, a `FunctionThrowsException` that
+ * is otherwise called with `Try.with(loader, key)` for the same keys over and over.
+ *
+ * Both outcomes are cached: a `Success` for `successTtl` (forever unless given), a `Failure` for
+ * the usually much shorter `failureTtl`, so that a failing key does not hit the backend on every
+ * call, yet is retried soon.  A `failureTtl` of zero does not cache failures at all.
+ *
+ * Example:
+ * {{{
+ *
+ * TryCache<Integer, Event> events = TryCache.of(Sql::findEvent, 10_000, Duration.ofSeconds(5));
+ *
+ * Try<Event> event = events.get(42);
+ *
+ * }}}
+ *
+ * The keys are spread over independently locked segments, each an access-ordered `LinkedHashMap`
+ * holding its share of `maximumSize` and evicting its least recently used entry once full.  The
+ * loader runs outside of any lock, and concurrent misses on the same key share a single load,
+ * see `SingleFlight`.
+ */
+public final class TryCache<K, V> {
+    private static final int MAX_SEGMENTS = 16;
+
+    private final FunctionThrowsException<? super K, ? extends V, ?> loader;
+    private final long successTtlNanos;
+    private final long failureTtlNanos;
+    private final Segment<K, V>[] segments;
+    private final SingleFlight<K, V> flights = new SingleFlight<>(this::loadAndCache);
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loadFailures = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private TryCache(final FunctionThrowsException<? super K, ? extends V, ?> loader, final int maximumSize,
+                     final long successTtlNanos, final long failureTtlNanos) {
+        this.loader = loader;
+        this.successTtlNanos = successTtlNanos;
+        this.failureTtlNanos = failureTtlNanos;
+
+        final int count = Math.min(MAX_SEGMENTS, Integer.highestOneBit(maximumSize));
+        this.segments = new Segment[count];
+        for (int i = 0; i < count; i++) {
+            // spread the remainder so that the capacities add up to maximumSize
+            segments[i] = new Segment<>(maximumSize / count + (i < maximumSize % count ? 1 : 0), evictions);
+        }
+    }
+
+    /**
+     * Creates a cache whose successes never expire.
+     */
+    public static<K, V> TryCache<K, V> of(FunctionThrowsException<? super K, ? extends V, ?> loader, int maximumSize,
+                                          Duration failureTtl) {
+        return create(loader, maximumSize, Long.MAX_VALUE, failureTtl);
+    }
+
+    public static<K, V> TryCache<K, V> of(FunctionThrowsException<? super K, ? extends V, ?> loader, int maximumSize,
+                                          Duration successTtl, Duration failureTtl) {
+        Objects.requireNonNull(successTtl);
+        if (successTtl.isNegative() || successTtl.isZero())
+            throw new IllegalArgumentException("successTtl must be positive, was " + successTtl);
+        return create(loader, maximumSize, successTtl.toNanos(), failureTtl);
+    }
+
+    private static<K, V> TryCache<K, V> create(final FunctionThrowsException<? super K, ? extends V, ?> loader,
+                                               final int maximumSize, final long successTtlNanos, final Duration failureTtl) {
+        Objects.requireNonNull(loader);
+        Objects.requireNonNull(failureTtl);
+        if (maximumSize < 1)
+            throw new IllegalArgumentException("maximumSize must be at least 1, was " + maximumSize);
+        if (failureTtl.isNegative())
+            throw new IllegalArgumentException("failureTtl must not be negative, was " + failureTtl);
+        return new TryCache<>(loader, maximumSize, successTtlNanos, failureTtl.toNanos());
+    }
+
+    /**
+     * Returns the cached outcome for the key if it has not expired, otherwise loads, caches and returns it.
+     */
+    public Try<V> get(final K key) {
+        Objects.requireNonNull(key);
+        final Segment<K, V> segment = segmentFor(key);
+        final long now = System.nanoTime();
+        final Try<V> cached = segment.get(key, now);
+        if (cached != null) {
+            hits.increment();
+            return cached;
+        }
+        misses.increment();
+        return flights.get(key);
+    }
+
+    /**
+     * The single load in flight for a key.  The key is looked up again first, in case it was cached by
+     * a load that completed between the caller's miss and the start of this one.
+     */
+    private Try<V> loadAndCache(final K key) {
+        final Segment<K, V> segment = segmentFor(key);
+        final long now = System.nanoTime();
+        final Try<V> cached = segment.get(key, now);
+        if (cached != null)
+            return cached;
+
+        final Try<V> loaded = SingleFlight.load(loader, key);
+        final long ttl = loaded.isSuccess() ? successTtlNanos : failureTtlNanos;
+        if (loaded.isFailure())
+            loadFailures.increment();
+        if (ttl > 0)
+            segment.put(key, loaded, ttl == Long.MAX_VALUE ? Long.MAX_VALUE : System.nanoTime() + ttl);
+        return loaded;
+    }
+
+    public void invalidate(final K key) {
+        Objects.requireNonNull(key);
+        segmentFor(key).remove(key);
+    }
+
+    public void invalidateAll() {
+        for (Segment<K, V> segment : segments) {
+            segment.clear();
+        }
+    }
+
+    /**
+     * Returns the number of cached entries, expired ones not yet removed included.
+     */
+    public int size() {
+        int size = 0;
+        for (Segment<K, V> segment : segments) {
+            size += segment.size();
+        }
+        return size;
+    }
+
+    /**
+     * Returns a snapshot of the statistics gathered since the cache was created.
+     */
+    public Stats stats() {
+        return new Stats(hits.sum(), misses.sum(), loadFailures.sum(), evictions.sum());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TryCache(size=%d, %s)", size(), stats());
+    }
+
+    private Segment<K, V> segmentFor(final K key) {
+        final int h = key.hashCode();
+        return segments[(h ^ (h >>> 16)) & (segments.length - 1)];
+    }
+
+    /**
+     * Hit, miss, load failure and eviction counts of a `TryCache`.
+     */
+    public static final class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadFailureCount;
+        private final long evictionCount;
+
+        Stats(final long hitCount, final long missCount, final long loadFailureCount, final long evictionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadFailureCount = loadFailureCount;
+            this.evictionCount = evictionCount;
+        }
+
+        public long hitCount() {
+            return hitCount;
+        }
+
+        public long missCount() {
+            return missCount;
+        }
+
+        public long loadFailureCount() {
+            return loadFailureCount;
+        }
+
+        public long evictionCount() {
+            return evictionCount;
+        }
+
+        /**
+         * Returns the share of lookups that were hits, or 1 if there has been none.
+         */
+        public double hitRate() {
+            final long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Stats(hits=%d, misses=%d, loadFailures=%d, evictions=%d)",
+                    hitCount, missCount, loadFailureCount, evictionCount);
+        }
+    }
+
+    private static final class Cached<V> {
+        private final Try<V> outcome;
+        private final long expiresAt;
+
+        Cached(final Try<V> outcome, final long expiresAt) {
+            this.outcome = outcome;
+            this.expiresAt = expiresAt;
+        }
+
+        boolean expired(final long now) {
+            return expiresAt != Long.MAX_VALUE && now - expiresAt >= 0;
+        }
+    }
+
+    private static final class Segment<K, V> {
+        private final LinkedHashMap<K, Cached<V>> entries;
+
+        Segment(final int capacity, final LongAdder evictions) {
+            this.entries = new LinkedHashMap<K, Cached<V>>(16, 0.75f, true) {
+                private static final long serialVersionUID = 1L;
+
+                @Override
+                protected boolean removeEldestEntry(final Map.Entry<K, Cached<V>> eldest) {
+                    if (size() <= capacity)
+                        return false;
+
+                    evictions.increment();
+                    return true;
+                }
+            };
+        }
+
+        synchronized Try<V> get(final K key, final long now) {
+            final Cached<V> entry = entries.get(key);
+            if (entry == null)
+                return null;
+            if (entry.expired(now)) {
+                entries.remove(key);
+                return null;
+            }
+            return entry.outcome;
+        }
+
+        synchronized void put(final K key, final Try<V> outcome, final long expiresAt) {
+            entries.put(key, new Cached<>(outcome, expiresAt));
+        }
+
+        synchronized void remove(final K key) {
+            entries.remove(key);
+        }
+
+        synchronized void clear() {
+            entries.clear();
+        }
+
+        synchronized int size() {
+            return entries.size();
+        }
+    }
+}
@@ -0,0 +1,198 @@
+package com.tsys.utils;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+/**
+ * Collectors that unwrap a `Stream<Try<T>>` in a single pass, without keeping the `Try`
+ * wrappers alive.  All of them have combiners and can be used with parallel streams.
+ *
+ * Example:
+ * {{{
+ *
+ * TryCollectors.Partition<String> partition = names.parallelStream()
+ *         .map(s -> Try.with(capitalize, s))
+ *         .collect(TryCollectors.partitioning());
+ *
+ * partition.successes(); // the capitalized names
+ * partition.failures();  // the exceptions
+ *
+ * }}}
+ */
+public final class TryCollectors {
+
+    private TryCollectors() { }
+
+    /**
+     * Collects the values of the successes and the exceptions of the failures into a `Partition`.
+     */
+    public static<T> Collector<Try<T>, ?, Partition<T>> partitioning() {
+        return partitioning(Partition::new);
+    }
+
+    /**
+     * Same as `partitioning()`, with the list of successes sized up front for `expectedSuccesses`
+     * values.  Each chunk of a parallel stream starts with that capacity, so this is meant for
+     * sequential streams of a known size.
+     */
+    public static<T> Collector<Try<T>, ?, Partition<T>> partitioning(final int expectedSuccesses) {
+        return partitioning(() -> new Partition<>(expectedSuccesses));
+    }
+
+    private static<T> Collector<Try<T>, ?, Partition<T>> partitioning(final Supplier<Partition<T>> supplier) {
+        return Collector.of(supplier,
+                Partition::add,
+                Partition::addAll,
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Collects only the values of the successes, dropping the failures.
+     */
+    public static<T> Collector<Try<T>, ?, List<T>> successes() {
+        return Collector.of(ArrayList::new,
+                (List<T> values, Try<T> t) -> {
+                    if (t.isSuccess())
+                        values.add(t.get());
+                },
+                (left, right) -> {
+                    left.addAll(right);
+                    return left;
+                },
+                Collector.Characteristics.IDENTITY_FINISH);
+    }
+
+    /**
+     * Counts the successes and the failures.
+     */
+    public static<T> Collector<Try<T>, ?, Counts> counting() {
+        return Collector.of(() -> new long[2],
+                (long[] counts, Try<T> t) -> counts[t.isSuccess() ? 0 : 1]++,
+                (left, right) -> {
+                    left[0] += right[0];
+                    left[1] += right[1];
+                    return left;
+                },
+                counts -> new Counts(counts[0], counts[1]),
+                Collector.Characteristics.UNORDERED);
+    }
+
+    /**
+     * Collects the values into a `Success` of a list, or returns the first `Failure`
+     * (in encounter order) if there is one.  Values are no longer kept once a failure is seen.
+     */
+    public static<T> Collector<Try<T>, ?, Try<List<T>>> toTry() {
+        return Collector.of(ValuesOrFailure<T>::new,
+                ValuesOrFailure::add,
+                ValuesOrFailure::addAll,
+                ValuesOrFailure::toTry);
+    }
+
+    /**
+     * The values of the successes and the exceptions of the failures of a stream of tries.
+     */
+    public static final class Partition<T> {
+        private final List<T> successes;
+        private final List<Throwable> failures = new ArrayList<>();
+
+        private Partition() {
+            this.successes = new ArrayList<>();
+        }
+
+        private Partition(final int expectedSuccesses) {
+            this.successes = new ArrayList<>(expectedSuccesses);
+        }
+
+        public List<T> successes() {
+            return Collections.unmodifiableList(successes);
+        }
+
+        public List<Throwable> failures() {
+            return Collections.unmodifiableList(failures);
+        }
+
+        private void add(final Try<T> t) {
+            if (t.isSuccess())
+                successes.add(t.get());
+            else
+                failures.add(((Failure<T>) t).throwable());
+        }
+
+        private Partition<T> addAll(final Partition<T> other) {
+            successes.addAll(other.successes);
+            failures.addAll(other.failures);
+            return this;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Partition(successes=%s, failures=%s)", successes, failures);
+        }
+    }
+
+    /**
+     * The number of successes and failures in a stream of tries.
+     */
+    public static final class Counts {
+        private final long successes;
+        private final long failures;
+
+        private Counts(final long successes, final long failures) {
+            this.successes = successes;
+            this.failures = failures;
+        }
+
+        public long successes() {
+            return successes;
+        }
+
+        public long failures() {
+            return failures;
+        }
+
+        public long total() {
+            return successes + failures;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Counts(successes=%d, failures=%d)", successes, failures);
+        }
+    }
+
+    private static final class ValuesOrFailure<T> {
+        private List<T> values = new ArrayList<>();
+        private Try<T> failure;
+
+        private void add(final Try<T> t) {
+            if (failure != null)
+                return;
+
+            if (t.isSuccess()) {
+                values.add(t.get());
+            } else {
+                failure = t;
+                values = null;
+            }
+        }
+
+        private ValuesOrFailure<T> addAll(final ValuesOrFailure<T> right) {
+            if (failure != null)
+                return this;
+
+            if (right.failure != null)
+                return right;
+
+            values.addAll(right.values);
+            return this;
+        }
+
+        @SuppressWarnings("unchecked")
+        private Try<List<T>> toTry() {
+            return failure != null ? (Try<List<T>>) (Try<?>) failure : new Success<>(values);
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.OptionalDouble;
+import java.util.function.*;
+import java.util.stream.DoubleStream;
+
+/**
+ * A `Try` specialised for a primitive `double`, so that numeric chains do not box.
+ *
+ * Instances of `TryDouble` are either an instance of `SuccessDouble` or `FailureDouble`, and follow
+ * the same rules as `Try`: only non-fatal exceptions are caught by the combinators,
+ * serious system errors are thrown.
+ *
+ * Example:
+ * {{{
+ *
+ * DoubleSupplierThrowsException<NumberFormatException> parse = () -> Double.parseDouble(input);
+ * TryDouble squared = TryDouble.with(parse)
+ *                              .map(x -> x * x)
+ *                              .recover(t -> 0);
+ *
+ * }}}
+ *
+ * To go from a `Try<T>` to a `TryDouble` use `Try.mapToDouble`, to go back use `boxed` or `mapToObj`.
+ * `stream` bridges to a `DoubleStream`, which is how a `DoubleStream` of throwing computations can be
+ * flattened without boxing, for example `doubles.mapToObj(x -> TryDouble.with(...)).flatMapToDouble(TryDouble::stream)`.
+ */
+public abstract class TryDouble {
+
+    /**
+     * Returns `true` if the `TryDouble` is a `SuccessDouble`, `false` otherwise.
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns `true` if the `TryDouble` is a `FailureDouble`, `false` otherwise.
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * Returns the value from this `SuccessDouble` or throws the exception if this is a `FailureDouble`.
+     */
+    public abstract double getAsDouble();
+
+    /**
+     * Returns the value from this `SuccessDouble` or the given `default` argument if this is a `FailureDouble`.
+     */
+    public double getOrElse(final double defaultValue) {
+        return isSuccess() ? getAsDouble() : defaultValue;
+    }
+
+    /**
+     * Returns this `TryDouble` if it's a `SuccessDouble` or the given `default` argument if this is a `FailureDouble`.
+     */
+    public TryDouble orElse(final TryDouble defaultValue) {
+        return isSuccess() ? this : defaultValue;
+    }
+
+    /**
+     * Returns the given function applied to the value from this `SuccessDouble`
+     * or returns this if this is a `FailureDouble`.
+     */
+    public abstract TryDouble map(DoubleUnaryOperator fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessDouble` as a `Try`
+     * or returns this failure if this is a `FailureDouble`.
+     */
+    public abstract <R> Try<R> mapToObj(DoubleFunction<? extends R> fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessDouble` as a `TryInt`
+     * or returns this failure if this is a `FailureDouble`.
+     */
+    public abstract TryInt mapToInt(DoubleToIntFunction fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessDouble` as a `TryLong`
+     * or returns this failure if this is a `FailureDouble`.
+     */
+    public abstract TryLong mapToLong(DoubleToLongFunction fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessDouble` or returns this if this is a `FailureDouble`.
+     */
+    public abstract TryDouble flatMap(DoubleFunction<TryDouble> fn);
+
+    /**
+     * Applies the given function `fn` if this is a `SuccessDouble`, otherwise does nothing.
+     *
+     * ''Note:'' If `fn` throws, then this method may throw an exception.
+     */
+    public abstract void forEach(DoubleConsumer fn);
+
+    /**
+     * Converts this to a `FailureDouble` if the predicate is not satisfied.
+     */
+    public abstract TryDouble filter(DoublePredicate predicate);
+
+    /**
+     * Applies the given function `fn` if this is a `FailureDouble`, otherwise returns this if this is a `SuccessDouble`.
+     */
+    public abstract TryDouble recover(ToDoubleFunction<Throwable> fn);
+
+    /**
+     * Applies the given function `fn` if this is a `FailureDouble`, otherwise returns this if this is a `SuccessDouble`.
+     * This is like `flatMap` for the exception.
+     */
+    public abstract TryDouble recoverWith(Function<Throwable, TryDouble> fn);
+
+    /**
+     * Completes this `TryDouble` with an exception wrapped in a `Success`. The
+     * exception is either the exception that the `TryDouble` failed with (if a `FailureDouble`)
+     * or an `UnsupportedOperationException`.
+     */
+    public abstract Try<Throwable> failed();
+
+    /**
+     * Converts this to a `Try<Double>`.
+     */
+    public abstract Try<Double> boxed();
+
+    /**
+     * Returns `empty` if this is a `FailureDouble` or an `OptionalDouble` containing the
+     * value if this is a `SuccessDouble`.
+     */
+    public OptionalDouble toOptional() {
+        return isSuccess() ? OptionalDouble.of(getAsDouble()) : OptionalDouble.empty();
+    }
+
+    /**
+     * Returns a `DoubleStream` of the value if this is a `SuccessDouble`, or an empty `DoubleStream`
+     * if this is a `FailureDouble`.
+     */
+    public DoubleStream stream() {
+        return isSuccess() ? DoubleStream.of(getAsDouble()) : DoubleStream.empty();
+    }
+
+    /**
+     * Constructs a `TryDouble` using a supplier that throws checked exception.
+     * This method will ensure any non-fatal exception is caught and a `FailureDouble` object
+     * is returned.
+     */
+    public static<E extends Throwable> TryDouble with(DoubleSupplierThrowsException<E> ste) {
+        Objects.requireNonNull(ste);
+        try {
+            return new SuccessDouble(ste.getAsDouble());
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    /**
+     * Constructs a `TryDouble` using a supplier that throws unchecked exception.
+     * This method will ensure any non-fatal exception is caught and a `FailureDouble` object
+     * is returned.
+     */
+    public static TryDouble with(DoubleSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        try {
+            return new SuccessDouble(supplier.getAsDouble());
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    static TryDouble rethrowIfFatal(final Throwable t) {
+        if (Try.fatal(t)) {
+            throw new RuntimeException(t);
+        }
+        return new FailureDouble(t);
+    }
+}
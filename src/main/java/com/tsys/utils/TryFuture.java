@@ -0,0 +1,415 @@
+package com.tsys.utils;
+
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Future;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.function.Function;
+
+/**
+ * The asynchronous counterpart of `Try`: a computation running on an `Executor` that
+ * completes to a `Try<T>`.
+ *
+ * The combinators `map`, `flatMap`, `recover` and `recoverWith` do not block, each step runs
+ * on the given `Executor` once the previous one has completed, so many I/O bound chains can
+ * be in flight on a small pool.  A `TryFuture` never completes with an exception of its own,
+ * failures are carried by the `Failure` it completes to.
+ *
+ * Example:
+ * {{{
+ *
+ * TryFuture<ResultSet> rs = TryFuture.with(getConnection, url, pool)
+ *                                    .map(Connection::createStatement, pool)
+ *                                    .map(s -> s.executeQuery(sql), pool);
+ *
+ * Try<ResultSet> result = rs.get();
+ *
+ * }}}
+ */
+public final class TryFuture<T> {
+    private final CompletableFuture<Try<T>> future;
+
+    TryFuture(final CompletableFuture<Try<T>> future) {
+        this.future = future;
+    }
+
+    /**
+     * Starts a `TryFuture` evaluating a supplier that throws checked exception on the given executor.
+     * If the executor rejects the task, the `TryFuture` is already completed with that `Failure`.
+     */
+    public static<T, E extends Throwable> TryFuture<T> with(SupplierThrowsException<T, E> ste, Executor executor) {
+        Objects.requireNonNull(ste);
+        Objects.requireNonNull(executor);
+        try {
+            return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.with(ste), executor));
+        } catch (RejectedExecutionException e) {
+            return TryFuture.of(new Failure<>(e));
+        }
+    }
+
+    /**
+     * Starts a `TryFuture` evaluating a function that throws checked exception on the given executor.
+     * If the executor rejects the task, the `TryFuture` is already completed with that `Failure`.
+     */
+    public static<T, R, E extends Throwable> TryFuture<R> with(FunctionThrowsException<T, R, E> fte, T t, Executor executor) {
+        Objects.requireNonNull(fte);
+        Objects.requireNonNull(executor);
+        try {
+            return new TryFuture<>(CompletableFuture.supplyAsync(() -> Try.with(fte, t), executor));
+        } catch (RejectedExecutionException e) {
+            return TryFuture.of(new Failure<>(e));
+        }
+    }
+
+    /**
+     * Starts a `TryFuture` evaluating a supplier that throws checked exception on the given executor,
+     * that completes to a `Failure` of `TimeoutException` if the supplier is not done within `timeout`.
+     * The supplier is then cancelled: interrupted if it is running, never started if it is not.
+     *
+     * The deadline is kept by a single shared timer thread, so a pending timeout costs no thread.
+     */
+    public static<T, E extends Throwable> TryFuture<T> withTimeout(SupplierThrowsException<T, E> ste, Duration timeout,
+                                                                   Executor executor) {
+        Objects.requireNonNull(ste);
+        Objects.requireNonNull(timeout);
+        Objects.requireNonNull(executor);
+        final CompletableFuture<Try<T>> outcome = new CompletableFuture<>();
+        final FutureTask<Void> task = new FutureTask<>(() -> {
+            try {
+                outcome.complete(Try.with(ste));
+            } catch (Throwable fatal) {
+                outcome.completeExceptionally(fatal);
+            }
+        }, null);
+
+        final ScheduledFuture<?> deadline = SharedTimer.schedule(() -> {
+            if (outcome.complete(new Failure<>(new TimeoutException("timed out after " + timeout))))
+                task.cancel(true);
+        }, timeout.toNanos());
+        outcome.whenComplete((t, e) -> deadline.cancel(false));
+
+        try {
+            executor.execute(task);
+        } catch (RejectedExecutionException e) {
+            outcome.complete(new Failure<>(e));
+        }
+        return new TryFuture<>(outcome);
+    }
+
+    /**
+     * Races redundant alternatives, for instance the same call against several replicas, and completes
+     * to the first `Success`.  The first alternative starts straight away, each next one only once the
+     * previous has been running for `delay` without an outcome, or as soon as it fails.  Once one
+     * succeeds the others are cancelled, interrupting those that are running.  If every alternative
+     * fails, completes to a `Failure` of an `ExecutionException` carrying their failures as suppressed.
+     */
+    @SafeVarargs
+    @SuppressWarnings("varargs")
+    public static<T> TryFuture<T> hedge(Duration delay, Executor executor, SupplierThrowsException<T, ?>... alternatives) {
+        Objects.requireNonNull(delay);
+        Objects.requireNonNull(executor);
+        Objects.requireNonNull(alternatives);
+        if (alternatives.length == 0)
+            throw new IllegalArgumentException("hedge needs at least one alternative");
+
+        final Hedge<T> hedge = new Hedge<>(alternatives.clone(), delay.toNanos(), executor);
+        hedge.launch(0);
+        return new TryFuture<>(hedge.outcome);
+    }
+
+    /**
+     * The asynchronous counterpart of `Try.retry`: each attempt runs on the `scheduler`, and the
+     * backoff between attempts is waited out by scheduling the next attempt rather than by sleeping.
+     */
+    public static<T, E extends Throwable> TryFuture<T> retry(SupplierThrowsException<T, E> ste, RetryPolicy policy,
+                                                             ScheduledExecutorService scheduler) {
+        return retry(ste, policy, scheduler, scheduler);
+    }
+
+    /**
+     * Same as `retry(ste, policy, scheduler)`, with the attempts running on the given executor, for
+     * suppliers that block.  The `scheduler` only hands the next attempt over once its backoff is over.
+     */
+    public static<T, E extends Throwable> TryFuture<T> retry(SupplierThrowsException<T, E> ste, RetryPolicy policy,
+                                                             ScheduledExecutorService scheduler, Executor executor) {
+        Objects.requireNonNull(ste);
+        Objects.requireNonNull(policy);
+        Objects.requireNonNull(scheduler);
+        Objects.requireNonNull(executor);
+        final CompletableFuture<Try<T>> outcome = new CompletableFuture<>();
+        new Retry<>(ste, policy, scheduler, executor, outcome).attempt(1);
+        return new TryFuture<>(outcome);
+    }
+
+    /**
+     * Returns an already completed `TryFuture` of the given `Try`.
+     */
+    public static<T> TryFuture<T> of(Try<T> completed) {
+        Objects.requireNonNull(completed);
+        return new TryFuture<>(CompletableFuture.completedFuture(completed));
+    }
+
+    /**
+     * Applies the given function, on the given executor, to the value once this completes to a `Success`.
+     */
+    @SuppressWarnings("unchecked")
+    public<R, E extends Throwable> TryFuture<R> map(FunctionThrowsException<? super T, ? extends R, E> fn, Executor executor) {
+        Objects.requireNonNull(fn);
+        Objects.requireNonNull(executor);
+        return new TryFuture<>(future.thenApplyAsync(t -> t.isSuccess() ? apply(fn, t.get()) : (Try<R>) t, executor));
+    }
+
+    /**
+     * Applies the given function, on the given executor, to the value once this completes to a `Success`
+     * and continues with the `TryFuture` it returns.
+     */
+    @SuppressWarnings("unchecked")
+    public<R> TryFuture<R> flatMap(Function<? super T, TryFuture<R>> fn, Executor executor) {
+        Objects.requireNonNull(fn);
+        Objects.requireNonNull(executor);
+        return new TryFuture<>(future.thenComposeAsync(t -> {
+            if (t.isFailure())
+                return CompletableFuture.completedFuture((Try<R>) t);
+
+            try {
+                return fn.apply(t.get()).future;
+            } catch (Throwable e) {
+                return CompletableFuture.completedFuture(Try.rethrowIfFatal(e));
+            }
+        }, executor));
+    }
+
+    /**
+     * Applies the given function, on the given executor, to the exception once this completes to a `Failure`.
+     */
+    public<E extends Throwable> TryFuture<T> recover(FunctionThrowsException<Throwable, ? extends T, E> fn, Executor executor) {
+        Objects.requireNonNull(fn);
+        Objects.requireNonNull(executor);
+        return new TryFuture<>(future.thenApplyAsync(t -> t.isSuccess() ? t : apply(fn, ((Failure<T>) t).throwable()), executor));
+    }
+
+    /**
+     * Applies the given function, on the given executor, to the exception once this completes to a `Failure`
+     * and continues with the `TryFuture` it returns.  Nothing blocks while waiting for the recovery.
+     */
+    public TryFuture<T> recoverWith(Function<Throwable, TryFuture<T>> fn, Executor executor) {
+        Objects.requireNonNull(fn);
+        Objects.requireNonNull(executor);
+        return new TryFuture<>(future.thenComposeAsync(t -> {
+            if (t.isSuccess())
+                return CompletableFuture.completedFuture(t);
+
+            try {
+                return fn.apply(((Failure<T>) t).throwable()).future;
+            } catch (Throwable e) {
+                return CompletableFuture.completedFuture(Try.rethrowIfFatal(e));
+            }
+        }, executor));
+    }
+
+    /**
+     * Returns `true` if this has completed.
+     */
+    public boolean isDone() {
+        return future.isDone();
+    }
+
+    /**
+     * Waits for this to complete and returns its outcome.  This method does not throw: a fatal
+     * error raised by the computation is returned as a `Failure`, and so is an interruption
+     * of the waiting thread, whose interrupt status is restored.
+     */
+    public Try<T> get() {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            return new Failure<>(e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        }
+    }
+
+    /**
+     * Returns a `CompletableFuture` that completes to the outcome of this, never exceptionally.
+     */
+    public CompletableFuture<Try<T>> toCompletableFuture() {
+        return future.handle((t, e) -> e == null ? t : new Failure<>(unwrap(e)));
+    }
+
+    @Override
+    public String toString() {
+        return future.isDone() ? String.format("TryFuture(%s)", get()) : "TryFuture(<not completed>)";
+    }
+
+    private static final class Retry<T, E extends Throwable> {
+        private final SupplierThrowsException<T, E> ste;
+        private final RetryPolicy policy;
+        private final ScheduledExecutorService scheduler;
+        private final Executor executor;
+        private final CompletableFuture<Try<T>> outcome;
+
+        private Retry(final SupplierThrowsException<T, E> ste, final RetryPolicy policy,
+                      final ScheduledExecutorService scheduler, final Executor executor,
+                      final CompletableFuture<Try<T>> outcome) {
+            this.ste = ste;
+            this.policy = policy;
+            this.scheduler = scheduler;
+            this.executor = executor;
+            this.outcome = outcome;
+        }
+
+        private void attempt(final int attempt) {
+            try {
+                executor.execute(() -> run(attempt));
+            } catch (RejectedExecutionException e) {
+                outcome.complete(new Failure<>(e));
+            }
+        }
+
+        private void run(final int attempt) {
+            final Try<T> result;
+            try {
+                result = Try.with(ste);
+            } catch (Throwable fatal) {
+                outcome.completeExceptionally(fatal);
+                return;
+            }
+            if (!policy.shouldRetry(result, attempt)) {
+                outcome.complete(result);
+                return;
+            }
+            final long backoff = policy.backoffNanos(attempt);
+            if (backoff == 0) {
+                attempt(attempt + 1);
+                return;
+            }
+            try {
+                scheduler.schedule(() -> attempt(attempt + 1), backoff, TimeUnit.NANOSECONDS);
+            } catch (RejectedExecutionException e) {
+                outcome.complete(result);
+            }
+        }
+    }
+
+    private static final class Hedge<T> {
+        private final SupplierThrowsException<T, ?>[] alternatives;
+        private final long delayNanos;
+        private final Executor executor;
+        private final CompletableFuture<Try<T>> outcome = new CompletableFuture<>();
+        private final AtomicReferenceArray<Future<?>> running;
+        private final AtomicReferenceArray<Throwable> failures;
+        private final AtomicInteger started = new AtomicInteger();
+        private final AtomicInteger failed = new AtomicInteger();
+        private final AtomicInteger winner = new AtomicInteger(-1);
+        private final AtomicReference<ScheduledFuture<?>> timer = new AtomicReference<>();
+
+        private Hedge(final SupplierThrowsException<T, ?>[] alternatives, final long delayNanos, final Executor executor) {
+            this.alternatives = alternatives;
+            this.delayNanos = delayNanos;
+            this.executor = executor;
+            this.running = new AtomicReferenceArray<>(alternatives.length);
+            this.failures = new AtomicReferenceArray<>(alternatives.length);
+        }
+
+        /**
+         * Starts the `i`th alternative, unless it has already been started, by the timer of the previous one
+         * or by a failure, or the race is over.
+         */
+        private void launch(final int i) {
+            if (i >= alternatives.length || outcome.isDone() || !started.compareAndSet(i, i + 1))
+                return;
+
+            final FutureTask<Void> task = new FutureTask<>(() -> run(i), null);
+            running.set(i, task);
+            if (i + 1 < alternatives.length) {
+                final ScheduledFuture<?> replaced = timer.getAndSet(SharedTimer.schedule(() -> launch(i + 1), delayNanos));
+                if (replaced != null)
+                    replaced.cancel(false);
+            }
+            try {
+                executor.execute(task);
+            } catch (RejectedExecutionException e) {
+                settle(i, new Failure<>(e));
+            }
+            if (outcome.isDone())
+                cancelAll();
+        }
+
+        private void run(final int i) {
+            if (outcome.isDone())
+                return;
+
+            final Try<T> result;
+            try {
+                result = Try.with(alternatives[i]);
+            } catch (Throwable fatal) {
+                if (winner.compareAndSet(-1, i)) {
+                    outcome.completeExceptionally(fatal);
+                    cancelAll();
+                }
+                return;
+            }
+            settle(i, result);
+        }
+
+        private void settle(final int i, final Try<T> result) {
+            if (result.isSuccess()) {
+                if (winner.compareAndSet(-1, i)) {
+                    outcome.complete(result);
+                    cancelAll();
+                }
+                return;
+            }
+            failures.set(i, ((Failure<T>) result).throwable());
+            if (failed.incrementAndGet() < alternatives.length) {
+                launch(started.get());
+                return;
+            }
+            final ExecutionException all = new ExecutionException("all " + alternatives.length + " alternatives failed", null);
+            for (int j = 0; j < alternatives.length; j++) {
+                all.addSuppressed(failures.get(j));
+            }
+            outcome.complete(new Failure<>(all));
+        }
+
+        /**
+         * Cancels the pending timer and every alternative but the winner, which must not interrupt itself.
+         */
+        private void cancelAll() {
+            final ScheduledFuture<?> pending = timer.get();
+            if (pending != null)
+                pending.cancel(false);
+            final int won = winner.get();
+            for (int i = 0; i < alternatives.length; i++) {
+                final Future<?> task = running.get(i);
+                if (task != null && i != won)
+                    task.cancel(true);
+            }
+        }
+    }
+
+    private static<T, R, E extends Throwable> Try<R> apply(final FunctionThrowsException<? super T, ? extends R, E> fn, final T value) {
+        try {
+            return Success.valueOf(fn.apply(value));
+        } catch (Throwable t) {
+            return Try.rethrowIfFatal(t);
+        }
+    }
+
+    private static Throwable unwrap(final Throwable e) {
+        return e instanceof CompletionException && e.getCause() != null ? e.getCause() : e;
+    }
+}
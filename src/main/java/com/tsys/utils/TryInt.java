@@ -0,0 +1,174 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.OptionalInt;
+import java.util.function.*;
+import java.util.stream.IntStream;
+
+/**
+ * A `Try` specialised for a primitive `int`, so that numeric chains do not box.
+ *
+ * Instances of `TryInt` are either an instance of `SuccessInt` or `FailureInt`, and follow
+ * the same rules as `Try`: only non-fatal exceptions are caught by the combinators,
+ * serious system errors are thrown.
+ *
+ * Example:
+ * {{{
+ *
+ * IntSupplierThrowsException<NumberFormatException> parse = () -> Integer.parseInt(input);
+ * TryInt squared = TryInt.with(parse)
+ *                        .map(x -> x * x)
+ *                        .recover(t -> 0);
+ *
+ * }}}
+ *
+ * To go from a `Try<T>` to a `TryInt` use `Try.mapToInt`, to go back use `boxed` or `mapToObj`.
+ * `stream` bridges to a `IntStream`, which is how a `IntStream` of throwing computations can be
+ * flattened without boxing, for example `ints.mapToObj(x -> TryInt.with(...)).flatMapToInt(TryInt::stream)`.
+ */
+public abstract class TryInt {
+
+    /**
+     * Returns `true` if the `TryInt` is a `SuccessInt`, `false` otherwise.
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns `true` if the `TryInt` is a `FailureInt`, `false` otherwise.
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * Returns the value from this `SuccessInt` or throws the exception if this is a `FailureInt`.
+     */
+    public abstract int getAsInt();
+
+    /**
+     * Returns the value from this `SuccessInt` or the given `default` argument if this is a `FailureInt`.
+     */
+    public int getOrElse(final int defaultValue) {
+        return isSuccess() ? getAsInt() : defaultValue;
+    }
+
+    /**
+     * Returns this `TryInt` if it's a `SuccessInt` or the given `default` argument if this is a `FailureInt`.
+     */
+    public TryInt orElse(final TryInt defaultValue) {
+        return isSuccess() ? this : defaultValue;
+    }
+
+    /**
+     * Returns the given function applied to the value from this `SuccessInt`
+     * or returns this if this is a `FailureInt`.
+     */
+    public abstract TryInt map(IntUnaryOperator fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessInt` as a `Try`
+     * or returns this failure if this is a `FailureInt`.
+     */
+    public abstract <R> Try<R> mapToObj(IntFunction<? extends R> fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessInt` as a `TryLong`
+     * or returns this failure if this is a `FailureInt`.
+     */
+    public abstract TryLong mapToLong(IntToLongFunction fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessInt` as a `TryDouble`
+     * or returns this failure if this is a `FailureInt`.
+     */
+    public abstract TryDouble mapToDouble(IntToDoubleFunction fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessInt` or returns this if this is a `FailureInt`.
+     */
+    public abstract TryInt flatMap(IntFunction<TryInt> fn);
+
+    /**
+     * Applies the given function `fn` if this is a `SuccessInt`, otherwise does nothing.
+     *
+     * ''Note:'' If `fn` throws, then this method may throw an exception.
+     */
+    public abstract void forEach(IntConsumer fn);
+
+    /**
+     * Converts this to a `FailureInt` if the predicate is not satisfied.
+     */
+    public abstract TryInt filter(IntPredicate predicate);
+
+    /**
+     * Applies the given function `fn` if this is a `FailureInt`, otherwise returns this if this is a `SuccessInt`.
+     */
+    public abstract TryInt recover(ToIntFunction<Throwable> fn);
+
+    /**
+     * Applies the given function `fn` if this is a `FailureInt`, otherwise returns this if this is a `SuccessInt`.
+     * This is like `flatMap` for the exception.
+     */
+    public abstract TryInt recoverWith(Function<Throwable, TryInt> fn);
+
+    /**
+     * Completes this `TryInt` with an exception wrapped in a `Success`. The
+     * exception is either the exception that the `TryInt` failed with (if a `FailureInt`)
+     * or an `UnsupportedOperationException`.
+     */
+    public abstract Try<Throwable> failed();
+
+    /**
+     * Converts this to a `Try<Integer>`.
+     */
+    public abstract Try<Integer> boxed();
+
+    /**
+     * Returns `empty` if this is a `FailureInt` or an `OptionalInt` containing the
+     * value if this is a `SuccessInt`.
+     */
+    public OptionalInt toOptional() {
+        return isSuccess() ? OptionalInt.of(getAsInt()) : OptionalInt.empty();
+    }
+
+    /**
+     * Returns a `IntStream` of the value if this is a `SuccessInt`, or an empty `IntStream`
+     * if this is a `FailureInt`.
+     */
+    public IntStream stream() {
+        return isSuccess() ? IntStream.of(getAsInt()) : IntStream.empty();
+    }
+
+    /**
+     * Constructs a `TryInt` using a supplier that throws checked exception.
+     * This method will ensure any non-fatal exception is caught and a `FailureInt` object
+     * is returned.
+     */
+    public static<E extends Throwable> TryInt with(IntSupplierThrowsException<E> ste) {
+        Objects.requireNonNull(ste);
+        try {
+            return new SuccessInt(ste.getAsInt());
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    /**
+     * Constructs a `TryInt` using a supplier that throws unchecked exception.
+     * This method will ensure any non-fatal exception is caught and a `FailureInt` object
+     * is returned.
+     */
+    public static TryInt with(IntSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        try {
+            return new SuccessInt(supplier.getAsInt());
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    static TryInt rethrowIfFatal(final Throwable t) {
+        if (Try.fatal(t)) {
+            throw new RuntimeException(t);
+        }
+        return new FailureInt(t);
+    }
+}
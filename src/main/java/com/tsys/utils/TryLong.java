@@ -0,0 +1,174 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.OptionalLong;
+import java.util.function.*;
+import java.util.stream.LongStream;
+
+/**
+ * A `Try` specialised for a primitive `long`, so that numeric chains do not box.
+ *
+ * Instances of `TryLong` are either an instance of `SuccessLong` or `FailureLong`, and follow
+ * the same rules as `Try`: only non-fatal exceptions are caught by the combinators,
+ * serious system errors are thrown.
+ *
+ * Example:
+ * {{{
+ *
+ * LongSupplierThrowsException<NumberFormatException> parse = () -> Long.parseLong(input);
+ * TryLong squared = TryLong.with(parse)
+ *                          .map(x -> x * x)
+ *                          .recover(t -> 0);
+ *
+ * }}}
+ *
+ * To go from a `Try<T>` to a `TryLong` use `Try.mapToLong`, to go back use `boxed` or `mapToObj`.
+ * `stream` bridges to a `LongStream`, which is how a `LongStream` of throwing computations can be
+ * flattened without boxing, for example `longs.mapToObj(x -> TryLong.with(...)).flatMapToLong(TryLong::stream)`.
+ */
+public abstract class TryLong {
+
+    /**
+     * Returns `true` if the `TryLong` is a `SuccessLong`, `false` otherwise.
+     */
+    public abstract boolean isSuccess();
+
+    /**
+     * Returns `true` if the `TryLong` is a `FailureLong`, `false` otherwise.
+     */
+    public abstract boolean isFailure();
+
+    /**
+     * Returns the value from this `SuccessLong` or throws the exception if this is a `FailureLong`.
+     */
+    public abstract long getAsLong();
+
+    /**
+     * Returns the value from this `SuccessLong` or the given `default` argument if this is a `FailureLong`.
+     */
+    public long getOrElse(final long defaultValue) {
+        return isSuccess() ? getAsLong() : defaultValue;
+    }
+
+    /**
+     * Returns this `TryLong` if it's a `SuccessLong` or the given `default` argument if this is a `FailureLong`.
+     */
+    public TryLong orElse(final TryLong defaultValue) {
+        return isSuccess() ? this : defaultValue;
+    }
+
+    /**
+     * Returns the given function applied to the value from this `SuccessLong`
+     * or returns this if this is a `FailureLong`.
+     */
+    public abstract TryLong map(LongUnaryOperator fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessLong` as a `Try`
+     * or returns this failure if this is a `FailureLong`.
+     */
+    public abstract <R> Try<R> mapToObj(LongFunction<? extends R> fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessLong` as a `TryInt`
+     * or returns this failure if this is a `FailureLong`.
+     */
+    public abstract TryInt mapToInt(LongToIntFunction fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessLong` as a `TryDouble`
+     * or returns this failure if this is a `FailureLong`.
+     */
+    public abstract TryDouble mapToDouble(LongToDoubleFunction fn);
+
+    /**
+     * Returns the given function applied to the value from this `SuccessLong` or returns this if this is a `FailureLong`.
+     */
+    public abstract TryLong flatMap(LongFunction<TryLong> fn);
+
+    /**
+     * Applies the given function `fn` if this is a `SuccessLong`, otherwise does nothing.
+     *
+     * ''Note:'' If `fn` throws, then this method may throw an exception.
+     */
+    public abstract void forEach(LongConsumer fn);
+
+    /**
+     * Converts this to a `FailureLong` if the predicate is not satisfied.
+     */
+    public abstract TryLong filter(LongPredicate predicate);
+
+    /**
+     * Applies the given function `fn` if this is a `FailureLong`, otherwise returns this if this is a `SuccessLong`.
+     */
+    public abstract TryLong recover(ToLongFunction<Throwable> fn);
+
+    /**
+     * Applies the given function `fn` if this is a `FailureLong`, otherwise returns this if this is a `SuccessLong`.
+     * This is like `flatMap` for the exception.
+     */
+    public abstract TryLong recoverWith(Function<Throwable, TryLong> fn);
+
+    /**
+     * Completes this `TryLong` with an exception wrapped in a `Success`. The
+     * exception is either the exception that the `TryLong` failed with (if a `FailureLong`)
+     * or an `UnsupportedOperationException`.
+     */
+    public abstract Try<Throwable> failed();
+
+    /**
+     * Converts this to a `Try<Long>`.
+     */
+    public abstract Try<Long> boxed();
+
+    /**
+     * Returns `empty` if this is a `FailureLong` or an `OptionalLong` containing the
+     * value if this is a `SuccessLong`.
+     */
+    public OptionalLong toOptional() {
+        return isSuccess() ? OptionalLong.of(getAsLong()) : OptionalLong.empty();
+    }
+
+    /**
+     * Returns a `LongStream` of the value if this is a `SuccessLong`, or an empty `LongStream`
+     * if this is a `FailureLong`.
+     */
+    public LongStream stream() {
+        return isSuccess() ? LongStream.of(getAsLong()) : LongStream.empty();
+    }
+
+    /**
+     * Constructs a `TryLong` using a supplier that throws checked exception.
+     * This method will ensure any non-fatal exception is caught and a `FailureLong` object
+     * is returned.
+     */
+    public static<E extends Throwable> TryLong with(LongSupplierThrowsException<E> ste) {
+        Objects.requireNonNull(ste);
+        try {
+            return new SuccessLong(ste.getAsLong());
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    /**
+     * Constructs a `TryLong` using a supplier that throws unchecked exception.
+     * This method will ensure any non-fatal exception is caught and a `FailureLong` object
+     * is returned.
+     */
+    public static TryLong with(LongSupplier supplier) {
+        Objects.requireNonNull(supplier);
+        try {
+            return new SuccessLong(supplier.getAsLong());
+        } catch (Throwable t) {
+            return rethrowIfFatal(t);
+        }
+    }
+
+    static TryLong rethrowIfFatal(final Throwable t) {
+        if (Try.fatal(t)) {
+            throw new RuntimeException(t);
+        }
+        return new FailureLong(t);
+    }
+}
@@ -0,0 +1,19 @@
+package com.tsys.utils;
+
+/**
+ * Receives the outcome and duration of every instrumented `Try` evaluation once installed with
+ * `Try.metrics(TryMetrics)`.
+ *
+ * `Try.with` records under the name it is given, or `"Try.with"`, and the combinators of `Success`
+ * and `Failure` that run user code record under their own name, such as `"Success.map"` or
+ * `"Failure.recover"`.  Implement this to bridge to a metrics backend, or use `TryMetricsRegistry`.
+ *
+ * The methods are called on the evaluating thread, right after the evaluation, so they must be cheap
+ * and thread safe.  An exception they throw is ignored, it does not change the recorded outcome.
+ */
+public interface TryMetrics {
+
+    void recordSuccess(String name, long nanos);
+
+    void recordFailure(String name, Throwable cause, long nanos);
+}
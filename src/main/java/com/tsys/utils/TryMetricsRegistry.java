@@ -0,0 +1,126 @@
+package com.tsys.utils;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A `TryMetrics` keeping, per name, success and failure counts, failure counts by exception class
+ * and a `LatencyHistogram` of the durations.
+ *
+ * Example:
+ * {{{
+ *
+ * TryMetricsRegistry registry = new TryMetricsRegistry();
+ * Try.metrics(registry);
+ *
+ * Try.with("db.connect", () -> DriverManager.getConnection(url));
+ *
+ * TryMetricsRegistry.Snapshot connects = registry.snapshot("db.connect");
+ * System.out.println(connects.failuresByClass() + " " + connects.latency().p99());
+ *
+ * }}}
+ *
+ * Counters are `LongAdder`s, so concurrent recording under the same name does not contend.
+ */
+public final class TryMetricsRegistry implements TryMetrics {
+    private final ConcurrentHashMap<String, Meter> meters = new ConcurrentHashMap<>();
+
+    @Override
+    public void recordSuccess(final String name, final long nanos) {
+        final Meter meter = meter(name);
+        meter.successes.increment();
+        meter.latency.record(nanos);
+    }
+
+    @Override
+    public void recordFailure(final String name, final Throwable cause, final long nanos) {
+        final Meter meter = meter(name);
+        meter.failures.increment();
+        meter.failuresByClass.computeIfAbsent(cause.getClass(), c -> new LongAdder()).increment();
+        meter.latency.record(nanos);
+    }
+
+    /**
+     * Returns the names recorded so far.
+     */
+    public Set<String> names() {
+        return Collections.unmodifiableSet(meters.keySet());
+    }
+
+    /**
+     * Returns the counts recorded under the name so far, all zero if none were.
+     */
+    public Snapshot snapshot(final String name) {
+        Objects.requireNonNull(name);
+        final Meter meter = meters.get(name);
+        if (meter == null)
+            return new Snapshot(0, 0, Collections.emptyMap(), new LatencyHistogram().snapshot());
+
+        final Map<Class<? extends Throwable>, Long> byClass = new HashMap<>();
+        meter.failuresByClass.forEach((c, count) -> byClass.put(c, count.sum()));
+        return new Snapshot(meter.successes.sum(), meter.failures.sum(), Collections.unmodifiableMap(byClass),
+                meter.latency.snapshot());
+    }
+
+    private Meter meter(final String name) {
+        final Meter meter = meters.get(name);
+        return meter != null ? meter : meters.computeIfAbsent(name, n -> new Meter());
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TryMetricsRegistry(%s)", meters.keySet());
+    }
+
+    /**
+     * The counts recorded under one name.
+     */
+    public static final class Snapshot {
+        private final long successCount;
+        private final long failureCount;
+        private final Map<Class<? extends Throwable>, Long> failuresByClass;
+        private final LatencyHistogram.Snapshot latency;
+
+        Snapshot(final long successCount, final long failureCount,
+                 final Map<Class<? extends Throwable>, Long> failuresByClass, final LatencyHistogram.Snapshot latency) {
+            this.successCount = successCount;
+            this.failureCount = failureCount;
+            this.failuresByClass = failuresByClass;
+            this.latency = latency;
+        }
+
+        public long successCount() {
+            return successCount;
+        }
+
+        public long failureCount() {
+            return failureCount;
+        }
+
+        public Map<Class<? extends Throwable>, Long> failuresByClass() {
+            return failuresByClass;
+        }
+
+        public LatencyHistogram.Snapshot latency() {
+            return latency;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("Snapshot(successes=%d, failures=%d, %s, %s)",
+                    successCount, failureCount, failuresByClass, latency);
+        }
+    }
+
+    private static final class Meter {
+        private final LongAdder successes = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final ConcurrentHashMap<Class<? extends Throwable>, LongAdder> failuresByClass = new ConcurrentHashMap<>();
+        private final LatencyHistogram latency = new LatencyHistogram();
+    }
+}
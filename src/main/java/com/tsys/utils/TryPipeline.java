@@ -0,0 +1,180 @@
+package com.tsys.utils;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+/**
+ * A reusable chain of `Try` combinators, built once and then applied to many inputs.
+ *
+ * Chaining combinators on a `Try` allocates a new `Success` or `Failure` for every step.
+ * A `TryPipeline` records the same steps and runs the whole chain in a single pass, carrying
+ * the intermediate value along, so that applying it allocates one `Try`, the result.
+ *
+ * Example:
+ * {{{
+ *
+ * TryPipeline<String, Integer> parse = TryPipeline.with(Integer::parseInt)
+ *                                                 .recover(t -> 2)
+ *                                                 .map(x -> x * 4)
+ *                                                 .filter(x -> x < 100);
+ *
+ * Try<Integer> answer = parse.apply("10");
+ *
+ * }}}
+ *
+ * Applying a pipeline has the same outcome as chaining the combinators by hand: non-fatal
+ * exceptions become a `Failure` and are passed on down the chain (to be recovered or not),
+ * fatal ones are thrown.
+ */
+public final class TryPipeline<A, B> {
+    private static final int MAP = 0;
+    private static final int FLAT_MAP = 1;
+    private static final int FILTER = 2;
+    private static final int RECOVER = 3;
+    private static final int RECOVER_WITH = 4;
+
+    private final FunctionThrowsException<Object, Object, ?> head;
+    private final int[] kinds;
+    private final Object[] steps;
+
+    private TryPipeline(final FunctionThrowsException<Object, Object, ?> head, final int[] kinds, final Object[] steps) {
+        this.head = head;
+        this.kinds = kinds;
+        this.steps = steps;
+    }
+
+    /**
+     * Starts a pipeline with a function that throws checked exception.
+     */
+    @SuppressWarnings("unchecked")
+    public static<A, B, E extends Throwable> TryPipeline<A, B> with(FunctionThrowsException<A, B, E> fte) {
+        Objects.requireNonNull(fte);
+        return new TryPipeline<>((FunctionThrowsException<Object, Object, ?>) fte, new int[0], new Object[0]);
+    }
+
+    /**
+     * Starts a pipeline that passes its input on unchanged.
+     */
+    public static<A> TryPipeline<A, A> identity() {
+        return new TryPipeline<>(null, new int[0], new Object[0]);
+    }
+
+    /**
+     * Appends `Try.map`.
+     */
+    public<C> TryPipeline<A, C> map(Function<? super B, ? extends C> fn) {
+        return append(MAP, fn);
+    }
+
+    /**
+     * Appends `Try.flatMap`.
+     */
+    public<C> TryPipeline<A, C> flatMap(Function<? super B, Try<C>> fn) {
+        return append(FLAT_MAP, fn);
+    }
+
+    /**
+     * Appends `Try.filter`.
+     */
+    public TryPipeline<A, B> filter(Predicate<? super B> predicate) {
+        return append(FILTER, predicate);
+    }
+
+    /**
+     * Appends `Try.recover`.
+     */
+    public TryPipeline<A, B> recover(Function<Throwable, ? extends B> fn) {
+        return append(RECOVER, fn);
+    }
+
+    /**
+     * Appends `Try.recoverWith`.
+     */
+    public TryPipeline<A, B> recoverWith(Function<Throwable, Try<B>> fn) {
+        return append(RECOVER_WITH, fn);
+    }
+
+    /**
+     * Runs the pipeline on the given input.
+     */
+    @SuppressWarnings("unchecked")
+    public Try<B> apply(final A input) {
+        Object value = input;
+        // the Try that holds the current outcome as is, if there is one, so that it need not be re-created
+        Try<?> current = null;
+        Failure<?> failure = null;
+
+        if (head != null) {
+            try {
+                value = head.apply(input);
+            } catch (Throwable t) {
+                failure = (Failure<?>) Try.rethrowIfFatal(t);
+            }
+        }
+
+        for (int i = 0; i < kinds.length; i++) {
+            final Object step = steps[i];
+            try {
+                switch (kinds[i]) {
+                    case MAP:
+                        if (failure == null) {
+                            value = ((Function<Object, Object>) step).apply(value);
+                            current = null;
+                        }
+                        break;
+                    case FLAT_MAP:
+                        if (failure == null) {
+                            current = ((Function<Object, Try<?>>) step).apply(value);
+                            if (current.isSuccess()) {
+                                value = current.get();
+                            } else {
+                                failure = (Failure<?>) current;
+                            }
+                        }
+                        break;
+                    case FILTER:
+                        if (failure == null && !((Predicate<Object>) step).test(value)) {
+                            failure = (Failure<?>) Failure.predicateDoesNotHold();
+                        }
+                        break;
+                    case RECOVER:
+                        if (failure != null) {
+                            value = ((Function<Throwable, Object>) step).apply(failure.throwable());
+                            failure = null;
+                            current = null;
+                        }
+                        break;
+                    case RECOVER_WITH:
+                        if (failure != null) {
+                            current = ((Function<Throwable, Try<?>>) step).apply(failure.throwable());
+                            if (current.isSuccess()) {
+                                value = current.get();
+                                failure = null;
+                            } else {
+                                failure = (Failure<?>) current;
+                            }
+                        }
+                        break;
+                }
+            } catch (Throwable t) {
+                failure = (Failure<?>) Try.rethrowIfFatal(t);
+            }
+        }
+
+        if (failure != null)
+            return (Try<B>) failure;
+
+        return current != null ? (Try<B>) current : Success.valueOf((B) value);
+    }
+
+    private<C> TryPipeline<A, C> append(final int kind, final Object step) {
+        Objects.requireNonNull(step);
+        final int[] nextKinds = Arrays.copyOf(kinds, kinds.length + 1);
+        final Object[] nextSteps = Arrays.copyOf(steps, steps.length + 1);
+        nextKinds[kinds.length] = kind;
+        nextSteps[steps.length] = step;
+        return new TryPipeline<>(head, nextKinds, nextSteps);
+    }
+}
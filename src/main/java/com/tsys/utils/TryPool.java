@@ -0,0 +1,339 @@
+package com.tsys.utils;
+
+import java.lang.ref.WeakReference;
+import java.time.Duration;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.SynchronousQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Predicate;
+
+/**
+ * A pool of expensive resources, such as JDBC connections, created on demand up to `maxSize`.
+ *
+ * `acquire` hands out a free resource, creating one if there is none and the pool is not full,
+ * otherwise waits up to `maxWait` for one to be released, `Duration.ZERO` means fail fast.  A
+ * caller that gets none receives the shared stackless `Failure` of `POOL_EXHAUSTED`.  Resources
+ * failing the `validator` when acquired are closed and replaced, and `evictIdle` closes those
+ * left unused for longer than `idleTimeout`.
+ *
+ * Example:
+ * {{{
+ *
+ * TryPool<Connection> connections = TryPool.of(() -> DriverManager.getConnection(url), 10, Duration.ofMillis(250));
+ *
+ * Try<Integer> count = connections.withResource(c -> count(c, sql));
+ *
+ * }}}
+ *
+ * Borrowing and returning take no lock: each resource's state is swapped with compare-and-set, a
+ * thread first tries the resource it released last, which is usually still free, then scans the
+ * others, and a release hands the resource straight over to a waiting caller, if there is one.
+ */
+public final class TryPool<R extends AutoCloseable> implements AutoCloseable {
+
+    /**
+     * The cause shared by every `Failure` of an `acquire` that found no resource in time.
+     */
+    public static final CallNotPermittedException POOL_EXHAUSTED = new CallNotPermittedException("pool exhausted");
+
+    private static final Failure<?>[] EXHAUSTED_FAILURES = Failure.preallocate(POOL_EXHAUSTED);
+
+    private static final int FREE = 0;
+    private static final int IN_USE = 1;
+    private static final int REMOVED = -1;
+
+    // how often a waiting caller looks for a free resource on its own, in case it missed a hand over
+    private static final long RESCAN_NANOS = TimeUnit.MILLISECONDS.toNanos(10);
+
+    private final SupplierThrowsException<? extends R, ?> factory;
+    private final Predicate<? super R> validator;
+    private final int maxSize;
+    private final long maxWaitNanos;
+    private final long idleTimeoutNanos;
+    private final CopyOnWriteArrayList<Entry<R>> entries = new CopyOnWriteArrayList<>();
+    // weak, so that an entry discarded by another thread does not stay reachable from this one
+    private final ThreadLocal<WeakReference<Entry<R>>> lastReleased = new ThreadLocal<>();
+    private final SynchronousQueue<Entry<R>> handoff = new SynchronousQueue<>();
+    private final AtomicInteger size = new AtomicInteger();
+    private final AtomicInteger waiters = new AtomicInteger();
+    private volatile boolean closed;
+
+    private TryPool(final SupplierThrowsException<? extends R, ?> factory, final Predicate<? super R> validator,
+                    final int maxSize, final long maxWaitNanos, final long idleTimeoutNanos) {
+        this.factory = factory;
+        this.validator = validator;
+        this.maxSize = maxSize;
+        this.maxWaitNanos = maxWaitNanos;
+        this.idleTimeoutNanos = idleTimeoutNanos;
+    }
+
+    /**
+     * Creates a pool whose resources are always valid and never idle out.
+     */
+    public static<R extends AutoCloseable> TryPool<R> of(SupplierThrowsException<? extends R, ?> factory, int maxSize,
+                                                         Duration maxWait) {
+        return of(factory, r -> true, maxSize, maxWait, Duration.ofNanos(Long.MAX_VALUE));
+    }
+
+    public static<R extends AutoCloseable> TryPool<R> of(SupplierThrowsException<? extends R, ?> factory,
+                                                         Predicate<? super R> validator, int maxSize,
+                                                         Duration maxWait, Duration idleTimeout) {
+        Objects.requireNonNull(factory);
+        Objects.requireNonNull(validator);
+        Objects.requireNonNull(maxWait);
+        Objects.requireNonNull(idleTimeout);
+        if (maxSize < 1)
+            throw new IllegalArgumentException("maxSize must be at least 1, was " + maxSize);
+        if (maxWait.isNegative())
+            throw new IllegalArgumentException("maxWait must not be negative, was " + maxWait);
+        if (idleTimeout.isNegative() || idleTimeout.isZero())
+            throw new IllegalArgumentException("idleTimeout must be positive, was " + idleTimeout);
+
+        return new TryPool<>(factory, validator, maxSize, maxWait.toNanos(), idleTimeout.toNanos());
+    }
+
+    /**
+     * Returns a free resource, a new one if there is none and the pool is not full, or waits up to
+     * `maxWait` for one to be released.  The resource must be given back with `release`.
+     */
+    public Try<R> acquire() {
+        if (closed)
+            return new Failure<>(new IllegalStateException("pool is closed"));
+
+        final Entry<R> local = lastReleased();
+        if (local != null && claim(local))
+            return Success.valueOf(local.resource);
+
+        final Entry<R> free = claimAny();
+        if (free != null)
+            return Success.valueOf(free.resource);
+
+        final Try<R> created = createIfNotFull();
+        if (created != null)
+            return created;
+
+        return maxWaitNanos == 0 ? Failure.shared(EXHAUSTED_FAILURES) : await();
+    }
+
+    /**
+     * Gives a resource obtained from `acquire` back to the pool, or closes it if the pool is closed.
+     */
+    public void release(final R resource) {
+        Objects.requireNonNull(resource);
+        final Entry<R> local = lastReleased();
+        Entry<R> entry = local;
+        if (entry == null || entry.resource != resource)
+            entry = find(resource);
+        if (entry == null || entry.state.get() != IN_USE)
+            throw new IllegalArgumentException("resource was not acquired from this pool: " + resource);
+
+        if (closed) {
+            discard(entry);
+            return;
+        }
+        entry.releasedAt = System.nanoTime();
+        if (entry != local)
+            lastReleased.set(new WeakReference<>(entry));
+        entry.state.set(FREE);
+        if (closed && entry.state.compareAndSet(FREE, IN_USE))
+            discard(entry);
+        else if (waiters.get() > 0)
+            handoff.offer(entry);
+    }
+
+    /**
+     * Acquires a resource, applies the function to it and releases it, whatever the outcome.
+     */
+    public<T> Try<T> withResource(final FunctionThrowsException<? super R, ? extends T, ?> fn) {
+        Objects.requireNonNull(fn);
+        final Try<R> acquired = acquire();
+        if (acquired.isFailure()) {
+            @SuppressWarnings("unchecked")
+            final Try<T> failed = (Try<T>) acquired;
+            return failed;
+        }
+
+        final R resource = acquired.get();
+        try {
+            return Success.valueOf(fn.apply(resource));
+        } catch (Throwable t) {
+            return Try.rethrowIfFatal(t);
+        } finally {
+            release(resource);
+        }
+    }
+
+    /**
+     * Closes the free resources that have not been used for longer than `idleTimeout`, and returns how
+     * many were closed.  Call it periodically, for instance from a `ScheduledExecutorService`.
+     */
+    public int evictIdle() {
+        final long now = System.nanoTime();
+        int evicted = 0;
+        for (Entry<R> entry : entries) {
+            if (now - entry.releasedAt > idleTimeoutNanos && entry.state.compareAndSet(FREE, IN_USE)) {
+                discard(entry);
+                evicted++;
+            }
+        }
+        return evicted;
+    }
+
+    /**
+     * Returns how many resources the pool holds, in use or not.
+     */
+    public int size() {
+        return size.get();
+    }
+
+    /**
+     * Returns how many resources are free right now.
+     */
+    public int idle() {
+        int idle = 0;
+        for (Entry<R> entry : entries) {
+            if (entry.state.get() == FREE)
+                idle++;
+        }
+        return idle;
+    }
+
+    /**
+     * Closes the free resources, the ones in use are closed as they are released.
+     */
+    @Override
+    public void close() {
+        closed = true;
+        for (Entry<R> entry : entries) {
+            if (entry.state.compareAndSet(FREE, IN_USE))
+                discard(entry);
+        }
+    }
+
+    @Override
+    public String toString() {
+        return String.format("TryPool(size=%d, idle=%d)", size(), idle());
+    }
+
+    /**
+     * Reserves a slot and creates a resource in it, or returns `null` if the pool is full.
+     */
+    private Try<R> createIfNotFull() {
+        while (true) {
+            final int current = size.get();
+            if (current >= maxSize)
+                return null;
+            if (size.compareAndSet(current, current + 1))
+                return create();
+        }
+    }
+
+    private Try<R> create() {
+        final R resource;
+        try {
+            resource = factory.get();
+        } catch (Throwable t) {
+            size.decrementAndGet();
+            return Try.rethrowIfFatal(t);
+        }
+        entries.add(new Entry<>(resource));
+        return Success.valueOf(resource);
+    }
+
+    private Try<R> await() {
+        final long deadline = System.nanoTime() + maxWaitNanos;
+        waiters.incrementAndGet();
+        try {
+            while (true) {
+                // a resource released before this caller was counted as waiting was not handed over
+                final Entry<R> free = claimAny();
+                if (free != null)
+                    return Success.valueOf(free.resource);
+
+                // a slot frees up when a resource is discarded or fails to be created
+                final Try<R> created = createIfNotFull();
+                if (created != null)
+                    return created;
+
+                final long remaining = deadline - System.nanoTime();
+                if (remaining <= 0)
+                    return Failure.shared(EXHAUSTED_FAILURES);
+
+                final Entry<R> handedOver = handoff.poll(Math.min(remaining, RESCAN_NANOS), TimeUnit.NANOSECONDS);
+                if (handedOver != null && claim(handedOver))
+                    return Success.valueOf(handedOver.resource);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Failure<>(e);
+        } finally {
+            waiters.decrementAndGet();
+        }
+    }
+
+    private Entry<R> claimAny() {
+        for (Entry<R> entry : entries) {
+            if (claim(entry))
+                return entry;
+        }
+        return null;
+    }
+
+    /**
+     * Takes the entry if it is free and its resource is still valid, discarding it if it is not.
+     */
+    private boolean claim(final Entry<R> entry) {
+        if (!entry.state.compareAndSet(FREE, IN_USE))
+            return false;
+
+        final boolean valid;
+        try {
+            valid = validator.test(entry.resource);
+        } catch (Throwable t) {
+            Try.rethrowIfFatal(t);
+            discard(entry);
+            return false;
+        }
+        if (!valid)
+            discard(entry);
+        return valid;
+    }
+
+    private Entry<R> lastReleased() {
+        final WeakReference<Entry<R>> local = lastReleased.get();
+        return local == null ? null : local.get();
+    }
+
+    private Entry<R> find(final R resource) {
+        for (Entry<R> entry : entries) {
+            if (entry.resource == resource)
+                return entry;
+        }
+        return null;
+    }
+
+    private void discard(final Entry<R> entry) {
+        entry.state.set(REMOVED);
+        if (lastReleased() == entry)
+            lastReleased.remove();
+        if (entries.remove(entry))
+            size.decrementAndGet();
+        try {
+            entry.resource.close();
+        } catch (Throwable t) {
+            Try.rethrowIfFatal(t);
+        }
+    }
+
+    private static final class Entry<R> {
+        private final R resource;
+        private final AtomicInteger state = new AtomicInteger(IN_USE);
+        private volatile long releasedAt = System.nanoTime();
+
+        Entry(final R resource) {
+            this.resource = resource;
+        }
+    }
+}
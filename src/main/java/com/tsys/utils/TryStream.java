@@ -0,0 +1,159 @@
+package com.tsys.utils;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collector;
+import java.util.stream.Stream;
+
+/**
+ * A `Stream` that accepts functions throwing checked exceptions.
+ *
+ * `mapTry`, `filterTry`, `peekTry` and `forEachTry` take the `...ThrowsException` interfaces
+ * directly.  When one of them fails on an element, the exception goes to the failure sink and
+ * the element is dropped, so only successful values flow on down the pipeline and no `Try` is
+ * created per element.
+ *
+ * Example:
+ * {{{
+ *
+ * Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+ * List<String> capitalized = TryStream.of(names.parallelStream(), failures::add)
+ *                                     .mapTry(TryInCollectionExamples::capitalize)
+ *                                     .collect(Collectors.toList());
+ *
+ * }}}
+ *
+ * The sink is called from whichever thread processes the failing element, so it must be thread-safe
+ * for parallel streams.  Like the `Try` combinators, only non-fatal exceptions are caught, fatal ones
+ * are thrown out of the terminal operation.
+ */
+public final class TryStream<T> {
+    private static final Object DROPPED = new Object();
+    private static final Consumer<Throwable> IGNORE = t -> { };
+
+    private final Stream<T> stream;
+    private final Consumer<? super Throwable> sink;
+
+    private TryStream(final Stream<T> stream, final Consumer<? super Throwable> sink) {
+        this.stream = stream;
+        this.sink = sink;
+    }
+
+    /**
+     * Wraps a stream, sending the failures to the given sink.
+     */
+    public static<T> TryStream<T> of(Stream<T> stream, Consumer<? super Throwable> sink) {
+        Objects.requireNonNull(stream);
+        Objects.requireNonNull(sink);
+        return new TryStream<>(stream, sink);
+    }
+
+    /**
+     * Wraps a stream, ignoring the failures.
+     */
+    public static<T> TryStream<T> of(Stream<T> stream) {
+        return of(stream, IGNORE);
+    }
+
+    /**
+     * Maps each element with a function that throws checked exception, dropping the elements it fails on.
+     */
+    @SuppressWarnings("unchecked")
+    public<R, E extends Throwable> TryStream<R> mapTry(FunctionThrowsException<? super T, ? extends R, E> fte) {
+        Objects.requireNonNull(fte);
+        final Stream<Object> mapped = stream.map(t -> {
+            try {
+                return fte.apply(t);
+            } catch (Throwable e) {
+                fail(e);
+                return DROPPED;
+            }
+        });
+        return new TryStream<>((Stream<R>) mapped.filter(r -> r != DROPPED), sink);
+    }
+
+    /**
+     * Keeps the elements that satisfy a predicate that throws checked exception, dropping the elements it fails on.
+     */
+    public<E extends Throwable> TryStream<T> filterTry(PredicateThrowsException<? super T, E> pte) {
+        Objects.requireNonNull(pte);
+        return new TryStream<>(stream.filter(t -> {
+            try {
+                return pte.test(t);
+            } catch (Throwable e) {
+                fail(e);
+                return false;
+            }
+        }), sink);
+    }
+
+    /**
+     * Passes each element to a consumer that throws checked exception, dropping the elements it fails on.
+     */
+    public<E extends Throwable> TryStream<T> peekTry(ConsumerThrowsException<? super T, E> cte) {
+        Objects.requireNonNull(cte);
+        return new TryStream<>(stream.filter(t -> {
+            try {
+                cte.accept(t);
+                return true;
+            } catch (Throwable e) {
+                fail(e);
+                return false;
+            }
+        }), sink);
+    }
+
+    /**
+     * Passes each element to a consumer that throws checked exception, sending its failures to the sink.
+     */
+    public<E extends Throwable> void forEachTry(ConsumerThrowsException<? super T, E> cte) {
+        Objects.requireNonNull(cte);
+        stream.forEach(t -> {
+            try {
+                cte.accept(t);
+            } catch (Throwable e) {
+                fail(e);
+            }
+        });
+    }
+
+    public<R> TryStream<R> map(Function<? super T, ? extends R> fn) {
+        return new TryStream<>(stream.map(fn), sink);
+    }
+
+    public TryStream<T> filter(Predicate<? super T> predicate) {
+        return new TryStream<>(stream.filter(predicate), sink);
+    }
+
+    public TryStream<T> parallel() {
+        return new TryStream<>(stream.parallel(), sink);
+    }
+
+    public TryStream<T> sequential() {
+        return new TryStream<>(stream.sequential(), sink);
+    }
+
+    public boolean isParallel() {
+        return stream.isParallel();
+    }
+
+    public<R, A> R collect(Collector<? super T, A, R> collector) {
+        return stream.collect(collector);
+    }
+
+    /**
+     * Returns the underlying stream of successful values.
+     */
+    public Stream<T> toStream() {
+        return stream;
+    }
+
+    private void fail(final Throwable e) {
+        if (Try.fatal(e)) {
+            throw new RuntimeException(e);
+        }
+        sink.accept(e);
+    }
+}
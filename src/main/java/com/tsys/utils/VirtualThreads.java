@@ -0,0 +1,28 @@
+package com.tsys.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * The `Executor` behind `Try.onVirtualThread`.
+ *
+ * Virtual threads need Java 21, this is the Java 8 version, which falls back to a cached pool of
+ * daemon platform threads.  The multi-release jar carries a Java 21 version of this class
+ * (under `src/main/java21`) that starts a virtual thread per task instead.
+ */
+final class VirtualThreads {
+    private static final AtomicInteger count = new AtomicInteger();
+
+    private static final Executor executor = Executors.newCachedThreadPool(runnable -> {
+        final Thread thread = new Thread(runnable, "try-worker-" + count.getAndIncrement());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    private VirtualThreads() { }
+
+    static Executor executor() {
+        return executor;
+    }
+}
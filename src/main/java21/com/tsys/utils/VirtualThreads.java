@@ -0,0 +1,21 @@
+package com.tsys.utils;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+
+/**
+ * The `Executor` behind `Try.onVirtualThread`.
+ *
+ * This is the Java 21 version, packaged under `META-INF/versions/21` of the multi-release jar,
+ * it starts a virtual thread per task.
+ */
+final class VirtualThreads {
+    private static final Executor executor =
+            Executors.newThreadPerTaskExecutor(Thread.ofVirtual().name("try-virtual-", 0).factory());
+
+    private VirtualThreads() { }
+
+    static Executor executor() {
+        return executor;
+    }
+}
@@ -0,0 +1,87 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.BitSet;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class BatchResultSpecs {
+
+    private static final FunctionThrowsException<String, Integer, NumberFormatException> parse = Integer::parseInt;
+
+    @Test
+    public void keepsValuesAndFailuresInColumns() {
+        //Given
+        String[] inputs = {"1", "two", "3"};
+
+        //When
+        BatchResult<Integer> result = Try.withBatch(parse, inputs);
+
+        //Then
+        assertEquals(3, result.size());
+        assertEquals(Integer.valueOf(1), result.get(0));
+        assertTrue(result.isFailure(1));
+        assertTrue(result.failure(1) instanceof NumberFormatException);
+        assertNull(result.failure(2));
+        assertEquals(2, result.successCount());
+        assertEquals(1, result.failureCount());
+    }
+
+    @Test
+    public void convertsASingleOutcomeToTry() {
+        //Given-When
+        BatchResult<Integer> result = Try.withBatch(parse, new String[] {"1", "two"});
+
+        //Then
+        assertEquals(Integer.valueOf(1), result.toTry(0).get());
+        assertTrue(result.toTry(1).isFailure());
+    }
+
+    @Test
+    public void shoutsWhenRetrievingValueThatFailed() {
+        //Given
+        BatchResult<Integer> result = Try.withBatch(parse, new String[] {"two"});
+
+        //When
+        try {
+            result.get(0);
+            fail("Cannot retrieve value from failure");
+        } catch (RuntimeException rte) {
+            //Then
+            assertTrue(rte.getCause() instanceof NumberFormatException);
+        }
+    }
+
+    @Test
+    public void splitsLargeArraysAcrossForkJoinPool() {
+        //Given
+        String[] inputs = new String[100_000];
+        BitSet expectedFailures = new BitSet();
+        for (int i = 0; i < inputs.length; i++) {
+            if (i % 7 == 0) {
+                inputs[i] = "x" + i;
+                expectedFailures.set(i);
+            } else {
+                inputs[i] = Integer.toString(i);
+            }
+        }
+
+        //When
+        BatchResult<Integer> result = Try.withBatch(parse, inputs);
+
+        //Then
+        assertEquals(expectedFailures, result.failedIndices());
+        assertEquals(expectedFailures.cardinality(), result.failures().size());
+        assertEquals(Integer.valueOf(99_999), result.get(99_999));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void throwsFatalExceptions() {
+        FunctionThrowsException<String, Integer, Exception> fatal = s -> { throw new OutOfMemoryError(); };
+        Try.withBatch(fatal, new String[] {"1"});
+    }
+}
@@ -0,0 +1,140 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class BulkheadSpecs {
+
+    @Test
+    public void semaphoreBulkheadRunsCallsOnTheCallersThread() {
+        //Given
+        Bulkhead bulkhead = Bulkhead.semaphore(1, Duration.ZERO);
+        Thread caller = Thread.currentThread();
+
+        //When
+        Try<Thread> ranOn = bulkhead.with(Thread::currentThread);
+
+        //Then
+        assertSame(caller, ranOn.get());
+        assertEquals(1, bulkhead.available());
+    }
+
+    @Test
+    public void semaphoreBulkheadFailsFastWhenFull() throws InterruptedException {
+        //Given
+        Bulkhead bulkhead = Bulkhead.semaphore(1, Duration.ZERO);
+        CountDownLatch inside = new CountDownLatch(1);
+        CountDownLatch leave = new CountDownLatch(1);
+        Thread occupant = new Thread(() -> bulkhead.with(() -> {
+            inside.countDown();
+            leave.await();
+            return 1;
+        }));
+        occupant.start();
+        inside.await();
+        AtomicInteger calls = new AtomicInteger();
+
+        //When
+        Try<Integer> rejected = bulkhead.with(() -> calls.incrementAndGet());
+        leave.countDown();
+        occupant.join();
+
+        //Then
+        assertTrue(rejected.isFailure());
+        assertSame(Bulkhead.BULKHEAD_FULL, rejected.<Throwable>recover(t -> t).get());
+        assertEquals(0, calls.get());
+        assertEquals(1, bulkhead.available());
+    }
+
+    @Test
+    public void semaphoreBulkheadWaitsForRoomUpToMaxWait() throws InterruptedException {
+        //Given
+        Bulkhead bulkhead = Bulkhead.semaphore(1, Duration.ofSeconds(10));
+        CountDownLatch inside = new CountDownLatch(1);
+        Thread occupant = new Thread(() -> bulkhead.with(() -> {
+            inside.countDown();
+            Thread.sleep(50);
+            return 1;
+        }));
+        occupant.start();
+        inside.await();
+
+        //When
+        Try<Integer> admitted = bulkhead.with(() -> 2);
+        occupant.join();
+
+        //Then
+        assertEquals(Integer.valueOf(2), admitted.get());
+    }
+
+    @Test
+    public void interruptedWaitFailsAndRestoresTheFlag() {
+        //Given
+        Bulkhead bulkhead = Bulkhead.semaphore(1, Duration.ofSeconds(10));
+        bulkhead.acquire();
+        Thread.currentThread().interrupt();
+
+        //When
+        Try<Integer> interrupted = bulkhead.with(() -> 2);
+
+        //Then
+        assertTrue(Thread.interrupted());
+        assertTrue(interrupted.<Throwable>recover(t -> t).get() instanceof InterruptedException);
+    }
+
+    @Test
+    public void threadPoolBulkheadRunsCallsOnItsOwnThreads() {
+        //Given
+        try (Bulkhead.ThreadPoolBulkhead bulkhead = Bulkhead.threadPool(2, 0, Duration.ZERO)) {
+            //When
+            Try<String> ranOn = bulkhead.withAsync(() -> Thread.currentThread().getName()).get();
+
+            //Then
+            assertTrue(ranOn.get().startsWith("try-bulkhead-"));
+        }
+    }
+
+    @Test
+    public void threadPoolBulkheadRejectsBeyondThreadsAndQueue() throws InterruptedException {
+        //Given
+        try (Bulkhead.ThreadPoolBulkhead bulkhead = Bulkhead.threadPool(1, 1, Duration.ZERO)) {
+            CountDownLatch leave = new CountDownLatch(1);
+            TryFuture<Integer> running = bulkhead.withAsync(() -> { leave.await(); return 1; });
+            TryFuture<Integer> queued = bulkhead.withAsync(() -> 2);
+
+            //When
+            Try<Integer> rejected = bulkhead.with(() -> 3);
+            leave.countDown();
+
+            //Then
+            assertSame(Bulkhead.BULKHEAD_FULL, rejected.<Throwable>recover(t -> t).get());
+            assertEquals(Integer.valueOf(1), running.get().get());
+            assertEquals(Integer.valueOf(2), queued.get().get());
+        }
+    }
+
+    @Test
+    public void threadPoolBulkheadDoesNotRejectSequentialCalls() {
+        //Given
+        try (Bulkhead.ThreadPoolBulkhead bulkhead = Bulkhead.threadPool(1, 0, Duration.ZERO)) {
+            int rejected = 0;
+
+            //When
+            for (int i = 0; i < 10_000; i++) {
+                if (bulkhead.with(() -> 1).isFailure())
+                    rejected++;
+            }
+
+            //Then
+            assertEquals(0, rejected);
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class CircuitBreakerSpecs {
+
+    private static final Supplier<Integer> failing = () -> 2 / 0;
+    private static final Supplier<Integer> succeeding = () -> 2;
+
+    @Test
+    public void staysClosedWhileFailureRateIsBelowThreshold() {
+        //Given
+        CircuitBreaker breaker = CircuitBreaker.of(4, 0.5, Duration.ofMinutes(1));
+
+        //When
+        breaker.with(failing::get);
+        breaker.with(succeeding::get);
+        breaker.with(succeeding::get);
+        breaker.with(succeeding::get);
+
+        //Then
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.25, breaker.failureRate(), 0.0);
+    }
+
+    @Test
+    public void opensOnceFailureRateReachesThresholdAndStopsCalling() {
+        //Given
+        CircuitBreaker breaker = CircuitBreaker.of(4, 0.5, Duration.ofMinutes(1));
+        AtomicInteger calls = new AtomicInteger();
+        breaker.with(succeeding::get);
+        breaker.with(succeeding::get);
+        breaker.with(failing::get);
+        breaker.with(failing::get);
+
+        //When
+        Try<Integer> refused = breaker.with(() -> calls.incrementAndGet());
+
+        //Then
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+        assertTrue(refused.isFailure());
+        assertEquals(0, calls.get());
+        assertSame(refused, breaker.with(failing::get));
+        assertSame(CircuitBreaker.CALL_NOT_PERMITTED, refused.<Throwable>recover(t -> t).get());
+        assertEquals(0, CircuitBreaker.CALL_NOT_PERMITTED.getStackTrace().length);
+    }
+
+    @Test
+    public void closesWhenTrialCallsSucceed() {
+        //Given
+        CircuitBreaker breaker = CircuitBreaker.of(2, 0.5, Duration.ZERO, 2);
+        breaker.with(failing::get);
+        breaker.with(failing::get);
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+
+        //When
+        breaker.with(succeeding::get);
+        CircuitBreaker.State afterFirstTrial = breaker.state();
+        breaker.with(succeeding::get);
+
+        //Then
+        assertEquals(CircuitBreaker.State.HALF_OPEN, afterFirstTrial);
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+        assertEquals(0.0, breaker.failureRate(), 0.0);
+    }
+
+    @Test
+    public void reopensWhenATrialCallFails() {
+        //Given
+        CircuitBreaker breaker = CircuitBreaker.of(1, 1.0, Duration.ZERO);
+        breaker.with(failing::get);
+
+        //When
+        Try<Integer> trial = breaker.with(failing::get);
+
+        //Then
+        assertTrue(trial.isFailure());
+        assertNotSame(CircuitBreaker.CALL_NOT_PERMITTED, trial.<Throwable>recover(t -> t).get());
+        assertEquals(CircuitBreaker.State.OPEN, breaker.state());
+    }
+
+    @Test
+    public void refusesCallsBeyondTheTrialPermits() {
+        //Given
+        CircuitBreaker breaker = CircuitBreaker.of(1, 1.0, Duration.ZERO);
+        breaker.with(failing::get);
+        AtomicInteger calls = new AtomicInteger();
+
+        //When
+        Try<Integer> refused = breaker.with(() -> breaker.with(() -> calls.incrementAndGet()).get());
+
+        //Then
+        assertTrue(refused.isFailure());
+        assertEquals(0, calls.get());
+    }
+
+    @Test
+    public void reopensWhenATrialCallHangsForTheOpenDuration() throws InterruptedException {
+        //Given
+        CircuitBreaker breaker = CircuitBreaker.of(1, 1.0, Duration.ofMillis(50));
+        breaker.with(failing::get);
+        Thread.sleep(60);
+        CountDownLatch trialStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread trial = new Thread(() -> breaker.with(() -> {
+            trialStarted.countDown();
+            release.await();
+            return 2;
+        }));
+        trial.start();
+        trialStarted.await();
+
+        //When
+        Try<Integer> refusedWhileTrialRuns = breaker.with(succeeding::get);
+        Thread.sleep(60);
+        Try<Integer> refusedOnceTrialHung = breaker.with(succeeding::get);
+        CircuitBreaker.State afterHang = breaker.state();
+        Thread.sleep(60);
+        Try<Integer> nextTrial = breaker.with(succeeding::get);
+        release.countDown();
+        trial.join();
+
+        //Then
+        assertTrue(refusedWhileTrialRuns.isFailure());
+        assertTrue(refusedOnceTrialHung.isFailure());
+        assertEquals(CircuitBreaker.State.OPEN, afterHang);
+        assertEquals(Integer.valueOf(2), nextTrial.get());
+        assertEquals(CircuitBreaker.State.CLOSED, breaker.state());
+    }
+}
@@ -0,0 +1,132 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class FailureReporterSpecs {
+
+    private final List<FailureReporter.Record> records = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void reportsABurstPerClassAndSuppressesTheRest() {
+        //Given
+        FailureReporter reporter = FailureReporter.of(records::add, 0.001, 2, 16);
+
+        //When
+        for (int i = 0; i < 10; i++) reporter.report(new IllegalStateException("" + i));
+        boolean otherClassReported = reporter.report(new IllegalArgumentException());
+        reporter.close();
+
+        //Then
+        assertTrue(otherClassReported);
+        assertEquals(3, records.size());
+        assertEquals(8, reporter.suppressed());
+    }
+
+    @Test
+    public void nextRecordCarriesTheSuppressedCount() throws InterruptedException {
+        //Given
+        FailureReporter reporter = FailureReporter.of(records::add, 50, 1, 16);
+        reporter.report(new IllegalStateException("first"));
+        reporter.report(new IllegalStateException("suppressed"));
+        reporter.report(new IllegalStateException("suppressed"));
+
+        //When
+        Thread.sleep(40);
+        reporter.report(new IllegalStateException("after refill"));
+        reporter.close();
+
+        //Then
+        assertEquals(2, records.size());
+        assertEquals(0, records.get(0).suppressedBefore());
+        assertEquals(2, records.get(1).suppressedBefore());
+        assertEquals("java.lang.IllegalStateException: after refill (2 more suppressed)", records.get(1).toString());
+    }
+
+    @Test
+    public void suppressesRecordsThatFindTheBufferFull() throws InterruptedException {
+        //Given
+        CountDownLatch delivering = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        FailureReporter reporter = FailureReporter.of(record -> {
+            delivering.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }, 1000, 100, 2);
+        reporter.report(new IllegalStateException("in the sink"));
+        delivering.await();
+
+        //When
+        boolean buffered = reporter.report(new IllegalStateException("in the buffer"))
+                && reporter.report(new IllegalStateException("in the buffer too"));
+        boolean full = reporter.report(new IllegalStateException("no room"));
+        release.countDown();
+        reporter.close();
+
+        //Then
+        assertTrue(buffered);
+        assertFalse(full);
+        assertEquals(3, records.size());
+        assertEquals(1, reporter.suppressed());
+    }
+
+    @Test
+    public void everyFailureReportedWhileClosingIsDeliveredOrSuppressed() throws InterruptedException {
+        //Given
+        FailureReporter reporter = FailureReporter.of(records::add, 1e9, 1_000_000, 64);
+        AtomicInteger queued = new AtomicInteger();
+        CountDownLatch started = new CountDownLatch(4);
+        List<Thread> reporters = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            Thread thread = new Thread(() -> {
+                started.countDown();
+                for (int j = 0; j < 20_000; j++) {
+                    if (reporter.report(new IllegalStateException()))
+                        queued.incrementAndGet();
+                }
+            });
+            reporters.add(thread);
+            thread.start();
+        }
+
+        //When
+        started.await();
+        reporter.close();
+        for (Thread thread : reporters) thread.join();
+
+        //Then
+        assertEquals(queued.get(), records.size());
+        assertEquals(80_000, records.size() + reporter.suppressed());
+    }
+
+    @Test
+    public void reportsOnlyFailures() {
+        //Given
+        FailureReporter reporter = FailureReporter.of(records::add, 10, 10, 16);
+
+        //When
+        boolean success = reporter.report(Success.valueOf(2));
+        boolean failure = reporter.report(Try.with((Supplier<Integer>) () -> Integer.parseInt("two")));
+        reporter.close();
+
+        //Then
+        assertFalse(success);
+        assertTrue(failure);
+        assertTrue(records.get(0).throwable() instanceof NumberFormatException);
+    }
+}
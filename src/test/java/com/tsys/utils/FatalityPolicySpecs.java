@@ -0,0 +1,73 @@
+package com.tsys.utils;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.nio.channels.ClosedByInterruptException;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class FatalityPolicySpecs {
+
+    @After
+    public void restoreDefault() {
+        Try.fatalityPolicy(FatalityPolicy.DEFAULT);
+    }
+
+    @Test
+    public void defaultPolicyOnlyMatchesExactClasses() {
+        assertTrue(FatalityPolicy.DEFAULT.isFatal(new LinkageError()));
+        assertFalse(FatalityPolicy.DEFAULT.isFatal(new NoClassDefFoundError()));
+        assertFalse(FatalityPolicy.DEFAULT.isFatal(new StackOverflowError()));
+    }
+
+    @Test
+    public void hierarchicalPolicyMatchesSubclasses() {
+        assertTrue(FatalityPolicy.HIERARCHICAL.isFatal(new NoClassDefFoundError()));
+        assertTrue(FatalityPolicy.HIERARCHICAL.isFatal(new OutOfMemoryError()));
+        assertFalse(FatalityPolicy.HIERARCHICAL.isFatal(new StackOverflowError()));
+        assertFalse(FatalityPolicy.HIERARCHICAL.isFatal(new ClosedByInterruptException()));
+    }
+
+    @Test
+    public void classifiesEachClassOnce() {
+        //Given
+        int[] classifications = new int[1];
+        FatalityPolicy policy = new FatalityPolicy() {
+            @Override
+            protected boolean classify(Class<? extends Throwable> type) {
+                classifications[0]++;
+                return false;
+            }
+        };
+
+        //When
+        policy.isFatal(new IllegalStateException());
+        policy.isFatal(new IllegalStateException());
+        policy.isFatal(new IllegalArgumentException());
+
+        //Then
+        assertEquals(2, classifications[0]);
+    }
+
+    @Test
+    public void installedPolicyDecidesWhatTryThrows() {
+        //Given
+        Try.fatalityPolicy(FatalityPolicy.of(IllegalStateException.class));
+
+        //When
+        Try<Integer> outOfMemory = Try.with((Supplier<Integer>) () -> { throw new OutOfMemoryError(); });
+        try {
+            Try.with((Supplier<Integer>) () -> { throw new IllegalStateException(); });
+            fail("IllegalStateException is fatal under the installed policy");
+        } catch (RuntimeException e) {
+            //Then
+            assertTrue(e.getCause() instanceof IllegalStateException);
+        }
+        assertTrue(outOfMemory.isFailure());
+    }
+}
@@ -0,0 +1,228 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class LazyTrySpecs {
+
+    @Test
+    public void doesNotEvaluateUntilValueIsDemanded() {
+        //Given
+        AtomicInteger evaluations = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.with((Supplier<Integer>) evaluations::incrementAndGet)
+                .map(x -> x * 2)
+                .filter(x -> x > 0)
+                .recover(t -> 0);
+
+        //When-Then
+        assertEquals(0, evaluations.get());
+        assertFalse(lazy.isEvaluated());
+        assertEquals(Integer.valueOf(2), lazy.get());
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void memoizesTheOutcome() {
+        //Given
+        AtomicInteger evaluations = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.with((Supplier<Integer>) evaluations::incrementAndGet);
+
+        //When
+        lazy.get();
+        lazy.get();
+        lazy.toOptional();
+
+        //Then
+        assertEquals(1, evaluations.get());
+        assertEquals("LazyTry(Success(1))", lazy.toString());
+    }
+
+    @Test
+    public void concurrentReadersEvaluateOnce() throws InterruptedException {
+        //Given
+        AtomicInteger evaluations = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.with((SupplierThrowsException<Integer, InterruptedException>) () -> {
+            Thread.sleep(50);
+            return evaluations.incrementAndGet();
+        });
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            Thread reader = new Thread(() -> {
+                try {
+                    start.await();
+                    lazy.get();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            });
+            reader.start();
+            readers.add(reader);
+        }
+
+        //When
+        start.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        //Then
+        assertEquals(1, evaluations.get());
+    }
+
+    @Test
+    public void doesNotEvaluateDefaultWhenPrimarySucceeds() {
+        //Given
+        AtomicInteger fallbacks = new AtomicInteger();
+        LazyTry<Integer> fallback = LazyTry.with((Supplier<Integer>) fallbacks::incrementAndGet);
+
+        //When
+        Integer value = LazyTry.with((Supplier<Integer>) () -> 2).orElse(fallback).get();
+
+        //Then
+        assertEquals(Integer.valueOf(2), value);
+        assertEquals(0, fallbacks.get());
+    }
+
+    @Test
+    public void evaluatesDefaultWhenPrimaryFails() {
+        //Given
+        LazyTry<Integer> failure = LazyTry.with((Supplier<Integer>) () -> 2 / 0);
+
+        //When
+        LazyTry<Integer> recovered = failure.orElse(LazyTry.of(Try.with((Supplier<Integer>) () -> 4)));
+
+        //Then
+        assertEquals(Integer.valueOf(4), recovered.get());
+        assertTrue(failure.isFailure());
+    }
+
+    @Test
+    public void flatMapsAndRecoversWithLazyTries() {
+        //Given
+        LazyTry<Integer> lazy = LazyTry.with((Supplier<Integer>) () -> 2)
+                .flatMap(x -> LazyTry.with((Supplier<Integer>) () -> x / 0))
+                .recoverWith(t -> LazyTry.with((Supplier<Integer>) () -> 8));
+
+        //When-Then
+        assertEquals(Integer.valueOf(8), lazy.getOrElse(0));
+    }
+
+    @Test
+    public void evaluatesAMillionFlatMapsInConstantStack() {
+        //Given
+        LazyTry<Integer> lazy = LazyTry.with((Supplier<Integer>) () -> 0);
+        for (int i = 0; i < 1_000_000; i++)
+            lazy = lazy.flatMap(x -> LazyTry.with((Supplier<Integer>) () -> x + 1));
+
+        //When-Then
+        assertEquals(Integer.valueOf(1_000_000), lazy.get());
+    }
+
+    @Test
+    public void evaluatesDeeplyRecursiveRecoveryInConstantStack() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //When
+        LazyTry<Integer> lazy = countdown(attempts, 200_000);
+
+        //Then
+        assertEquals(Integer.valueOf(200_000), lazy.get());
+        assertEquals(200_001, attempts.get());
+    }
+
+    @Test
+    public void suspendDefersBuildingTheChain() {
+        //Given
+        AtomicInteger builds = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.suspend(() -> {
+            builds.incrementAndGet();
+            return LazyTry.with((Supplier<Integer>) () -> 6);
+        }).map(x -> x * 7);
+
+        //When-Then
+        assertEquals(0, builds.get());
+        assertEquals(Integer.valueOf(42), lazy.get());
+        assertEquals(Integer.valueOf(42), lazy.get());
+        assertEquals(1, builds.get());
+    }
+
+    @Test
+    public void threadsForcingChainsThatShareANodeEvaluateItOnce() throws InterruptedException {
+        //Given
+        AtomicInteger evaluations = new AtomicInteger();
+        LazyTry<Integer> shared = LazyTry.with((Supplier<Integer>) () -> {
+            evaluations.incrementAndGet();
+            try {
+                Thread.sleep(50);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return 2;
+        });
+        LazyTry<Integer> doubled = shared.map(x -> x * 2);
+        LazyTry<Integer> tripled = shared.map(x -> x * 3);
+        CountDownLatch start = new CountDownLatch(1);
+        Thread first = new Thread(() -> { awaitQuietly(start); doubled.get(); });
+        Thread second = new Thread(() -> { awaitQuietly(start); tripled.get(); });
+        first.start();
+        second.start();
+
+        //When
+        start.countDown();
+        first.join();
+        second.join();
+
+        //Then
+        assertEquals(1, evaluations.get());
+        assertEquals(Integer.valueOf(4), doubled.get());
+        assertEquals(Integer.valueOf(6), tripled.get());
+    }
+
+    @Test
+    public void nodeStoppedByAFatalErrorIsEvaluatedByTheNextReader() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+        LazyTry<Integer> lazy = LazyTry.with((Supplier<Integer>) () -> {
+            if (attempts.incrementAndGet() == 1)
+                throw new OutOfMemoryError();
+            return 2;
+        }).map(x -> x + 1);
+        try {
+            lazy.get();
+            fail("OutOfMemoryError is fatal");
+        } catch (RuntimeException expected) {
+        }
+
+        //When-Then
+        assertEquals(Integer.valueOf(3), lazy.get());
+    }
+
+    private static void awaitQuietly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static LazyTry<Integer> countdown(AtomicInteger attempts, int failuresLeft) {
+        return LazyTry.with((Supplier<Integer>) () -> {
+            int attempt = attempts.getAndIncrement();
+            if (attempt < failuresLeft)
+                throw new IllegalStateException("attempt " + attempt);
+            return attempt;
+        }).recoverWith(t -> countdown(attempts, failuresLeft));
+    }
+}
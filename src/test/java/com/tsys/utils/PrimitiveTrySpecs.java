@@ -0,0 +1,150 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.OptionalInt;
+import java.util.NoSuchElementException;
+import java.util.function.IntSupplier;
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class PrimitiveTrySpecs {
+
+    private static IntSupplier divisionByZero = () -> 2 / 0;
+
+    @Test
+    public void successCreatedFromIntSupplierThrowingCheckedException() {
+        //Given
+        IntSupplierThrowsException<Exception> iste = () -> Integer.parseInt("2");
+
+        //When
+        TryInt success = TryInt.with(iste);
+
+        //Then
+        assertTrue(success.isSuccess());
+        assertEquals(2, success.getAsInt());
+    }
+
+    @Test
+    public void failureCreatedWhenIntSupplierThrows() {
+        //Given-When
+        TryInt failure = TryInt.with(divisionByZero);
+
+        //Then
+        assertTrue(failure.isFailure());
+        assertEquals(-1, failure.getOrElse(-1));
+    }
+
+    @Test
+    public void shoutsWhenRetrievingValueFromFailureInt() {
+        //Given-When
+        TryInt failure = TryInt.with(divisionByZero);
+
+        //Then
+        try {
+            failure.getAsInt();
+            fail("Cannot retrieve value from failure");
+        } catch (RuntimeException rte) {
+            assertTrue(rte.getCause() instanceof ArithmeticException);
+        }
+    }
+
+    @Test
+    public void mapsAndRecoversWithoutBoxing() {
+        //Given
+        TryInt failure = TryInt.with(divisionByZero);
+
+        //When
+        TryInt recovered = failure.map(x -> x * 2).recover(t -> 4).map(x -> x * x);
+
+        //Then
+        assertEquals(16, recovered.getAsInt());
+    }
+
+    @Test
+    public void convertsBetweenPrimitiveTries() {
+        //Given
+        TryInt success = TryInt.with((IntSupplier) () -> 3);
+
+        //When
+        TryDouble halved = success.mapToDouble(x -> x / 2.0);
+        TryLong squared = halved.mapToLong(x -> (long) (x * x));
+
+        //Then
+        assertEquals(1.5, halved.getAsDouble(), 0.0);
+        assertEquals(2L, squared.getAsLong());
+    }
+
+    @Test
+    public void failurePropagatesAcrossPrimitiveTries() {
+        //Given
+        TryInt failure = TryInt.with(divisionByZero);
+
+        //When
+        TryDouble mapped = failure.mapToDouble(x -> x / 2.0);
+
+        //Then
+        assertTrue(mapped.isFailure());
+        assertTrue(mapped.failed().get() instanceof ArithmeticException);
+    }
+
+    @Test
+    public void bridgesFromTryToPrimitiveTryAndBack() {
+        //Given
+        Try<String> success = Try.with((Supplier<String>) () -> "Hello");
+
+        //When
+        TryInt length = success.mapToInt(String::length);
+        Try<Integer> boxed = length.boxed();
+
+        //Then
+        assertEquals(5, length.getAsInt());
+        assertEquals(Integer.valueOf(5), boxed.get());
+    }
+
+    @Test
+    public void filtersSuccessIntToFailureWhenPredicateDoesNotHold() {
+        //Given
+        TryInt success = new SuccessInt(2);
+
+        //When
+        TryInt filtered = success.filter(x -> x > 2);
+
+        //Then
+        assertTrue(filtered.isFailure());
+        assertTrue(filtered.failed().get() instanceof NoSuchElementException);
+        assertNotSame(Failure.PREDICATE_DOES_NOT_HOLD, filtered.failed().get());
+    }
+
+    @Test
+    public void streamsOnlySuccessfulValues() {
+        //Given-When
+        int[] parsed = Arrays.asList("1", "two", "3").stream()
+                .map(s -> TryInt.with((IntSupplierThrowsException<NumberFormatException>) () -> Integer.parseInt(s)))
+                .flatMapToInt(TryInt::stream)
+                .toArray();
+
+        //Then
+        assertArrayEquals(new int[] {1, 3}, parsed);
+    }
+
+    @Test
+    public void convertsToOptionalInt() {
+        assertEquals(OptionalInt.of(2), new SuccessInt(2).toOptional());
+        assertEquals(OptionalInt.empty(), TryInt.with(divisionByZero).toOptional());
+        assertEquals(0, TryInt.with(divisionByZero).stream().count());
+        assertEquals(6, IntStream.of(1, 2, 3).mapToObj(SuccessInt::new).flatMapToInt(TryInt::stream).sum());
+    }
+
+    @Test
+    public void convertsPrimitiveTriesToString() {
+        assertEquals("SuccessDouble(2.5)", new SuccessDouble(2.5).toString());
+        assertEquals("FailureLong(java.lang.ArithmeticException)", new FailureLong(new ArithmeticException()).toString());
+    }
+}
@@ -0,0 +1,131 @@
+package com.tsys.utils;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class RetryPolicySpecs {
+
+    private final ScheduledExecutorService scheduler = Executors.newSingleThreadScheduledExecutor();
+
+    @After
+    public void shutdownScheduler() {
+        scheduler.shutdownNow();
+    }
+
+    private static SupplierThrowsException<Integer, IOException> failingTimes(int failures, AtomicInteger attempts) {
+        return () -> {
+            if (attempts.incrementAndGet() <= failures)
+                throw new IOException("attempt " + attempts.get());
+            return attempts.get();
+        };
+    }
+
+    @Test
+    public void retriesUntilSuccess() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //When
+        Try<Integer> outcome = Try.retry(failingTimes(2, attempts), RetryPolicy.maxAttempts(5));
+
+        //Then
+        assertEquals(Integer.valueOf(3), outcome.get());
+    }
+
+    @Test
+    public void givesUpAfterMaxAttempts() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+
+        //When
+        Try<Integer> outcome = Try.retry(failingTimes(10, attempts), RetryPolicy.maxAttempts(3));
+
+        //Then
+        assertTrue(outcome.isFailure());
+        assertEquals(3, attempts.get());
+    }
+
+    @Test
+    public void retriesOnlySelectedExceptions() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.maxAttempts(5).retryOn(IllegalStateException.class);
+
+        //When
+        Try<Integer> outcome = Try.retry(failingTimes(10, attempts), policy);
+
+        //Then
+        assertTrue(outcome.isFailure());
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void backsOffExponentiallyUpToMax() {
+        //Given
+        RetryPolicy policy = RetryPolicy.maxAttempts(10)
+                .withBackoff(Duration.ofMillis(10), Duration.ofMillis(50), 2.0);
+
+        //When-Then
+        assertEquals(Duration.ofMillis(10).toNanos(), policy.backoffNanos(1));
+        assertEquals(Duration.ofMillis(20).toNanos(), policy.backoffNanos(2));
+        assertEquals(Duration.ofMillis(40).toNanos(), policy.backoffNanos(3));
+        assertEquals(Duration.ofMillis(50).toNanos(), policy.backoffNanos(4));
+    }
+
+    @Test
+    public void jitterOnlyShortensTheBackoff() {
+        //Given
+        RetryPolicy policy = RetryPolicy.maxAttempts(10)
+                .withBackoff(Duration.ofMillis(100), Duration.ofMillis(100), 2.0)
+                .withJitter(0.5);
+
+        //When-Then
+        for (int i = 0; i < 100; i++) {
+            long backoff = policy.backoffNanos(1);
+            assertTrue(backoff <= Duration.ofMillis(100).toNanos());
+            assertTrue(backoff >= Duration.ofMillis(50).toNanos());
+        }
+    }
+
+    @Test
+    public void sharedBudgetStopsRetryStorms() {
+        //Given
+        RetryBudget budget = new RetryBudget(10, 0.1);
+        RetryPolicy policy = RetryPolicy.maxAttempts(3).withBudget(budget);
+        AtomicInteger attempts = new AtomicInteger();
+
+        //When
+        for (int i = 0; i < 20; i++) {
+            Try.retry(failingTimes(Integer.MAX_VALUE, attempts), policy);
+        }
+
+        //Then
+        assertFalse(budget.allowsRetry());
+        assertTrue(attempts.get() < 20 * 3);
+    }
+
+    @Test
+    public void retriesAsynchronouslyOnScheduler() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+        RetryPolicy policy = RetryPolicy.maxAttempts(5)
+                .withBackoff(Duration.ofMillis(5), Duration.ofMillis(20), 2.0);
+
+        //When
+        TryFuture<Integer> outcome = TryFuture.retry(failingTimes(3, attempts), policy, scheduler);
+
+        //Then
+        assertEquals(Integer.valueOf(4), outcome.get().get());
+    }
+}
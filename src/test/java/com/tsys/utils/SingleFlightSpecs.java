@@ -0,0 +1,106 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class SingleFlightSpecs {
+
+    private final AtomicInteger loads = new AtomicInteger();
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private Integer slowParse(String s) throws InterruptedException {
+        loads.incrementAndGet();
+        release.await();
+        return Integer.parseInt(s);
+    }
+
+    @Test
+    public void concurrentCallersForTheSameKeyShareOneLoad() throws InterruptedException {
+        //Given
+        SingleFlight<String, Integer> flight = SingleFlight.of(this::slowParse);
+        ConcurrentLinkedQueue<Try<Integer>> outcomes = new ConcurrentLinkedQueue<>();
+
+        //When
+        List<Thread> callers = startWaitingCallers(4, () -> outcomes.add(flight.get("2")));
+        release.countDown();
+        for (Thread caller : callers) caller.join();
+
+        //Then
+        assertEquals(1, loads.get());
+        assertEquals(4, outcomes.size());
+        Try<Integer> shared = outcomes.peek();
+        for (Try<Integer> outcome : outcomes) assertSame(shared, outcome);
+        assertEquals(Integer.valueOf(2), shared.get());
+        assertEquals(0, flight.inFlight());
+    }
+
+    @Test
+    public void sharesFailuresToo() throws InterruptedException {
+        //Given
+        SingleFlight<String, Integer> flight = SingleFlight.of(this::slowParse);
+        ConcurrentLinkedQueue<Try<Integer>> outcomes = new ConcurrentLinkedQueue<>();
+
+        //When
+        List<Thread> callers = startWaitingCallers(3, () -> outcomes.add(flight.get("two")));
+        release.countDown();
+        for (Thread caller : callers) caller.join();
+
+        //Then
+        assertEquals(1, loads.get());
+        for (Try<Integer> outcome : outcomes) assertTrue(outcome.isFailure());
+    }
+
+    @Test
+    public void doesNotBlockCallersForOtherKeys() throws InterruptedException {
+        //Given
+        SingleFlight<String, Integer> flight = SingleFlight.of(s -> s.equals("slow") ? slowParse("1") : Integer.parseInt(s));
+        List<Thread> slow = startWaitingCallers(1, () -> flight.get("slow"));
+
+        //When
+        Try<Integer> other = flight.get("3");
+        release.countDown();
+        slow.get(0).join();
+
+        //Then
+        assertEquals(Integer.valueOf(3), other.get());
+    }
+
+    @Test
+    public void cacheMissesOnTheSameKeyShareOneLoad() throws InterruptedException {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::slowParse, 10, Duration.ofMinutes(1));
+
+        //When
+        List<Thread> callers = startWaitingCallers(4, () -> cache.get("2"));
+        release.countDown();
+        for (Thread caller : callers) caller.join();
+
+        //Then
+        assertEquals(1, loads.get());
+        assertEquals(Integer.valueOf(2), cache.get("2").get());
+        assertEquals(1, cache.stats().hitCount());
+    }
+
+    // starts the callers one by one, each once the previous is blocked in the load or waiting for it
+    private static List<Thread> startWaitingCallers(int count, Runnable call) throws InterruptedException {
+        List<Thread> callers = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            Thread caller = new Thread(call);
+            caller.start();
+            while (caller.getState() != Thread.State.WAITING) Thread.sleep(1);
+            callers.add(caller);
+        }
+        return callers;
+    }
+}
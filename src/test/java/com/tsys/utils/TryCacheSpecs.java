@@ -0,0 +1,117 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryCacheSpecs {
+
+    private final AtomicInteger loads = new AtomicInteger();
+
+    private Integer parse(String s) {
+        loads.incrementAndGet();
+        return Integer.parseInt(s);
+    }
+
+    @Test
+    public void loadsOnceAndServesHitsFromTheCache() {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::parse, 10, Duration.ofMinutes(1));
+
+        //When
+        Try<Integer> first = cache.get("2");
+        Try<Integer> second = cache.get("2");
+
+        //Then
+        assertEquals(Integer.valueOf(2), second.get());
+        assertSame(first, second);
+        assertEquals(1, loads.get());
+        assertEquals(1, cache.stats().hitCount());
+        assertEquals(1, cache.stats().missCount());
+        assertEquals(0.5, cache.stats().hitRate(), 0.0);
+    }
+
+    @Test
+    public void cachesFailuresForTheirOwnTtl() throws InterruptedException {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::parse, 10, Duration.ofMillis(20));
+
+        //When
+        cache.get("two");
+        cache.get("two");
+        int loadsWhileCached = loads.get();
+        Thread.sleep(40);
+        Try<Integer> reloaded = cache.get("two");
+
+        //Then
+        assertEquals(1, loadsWhileCached);
+        assertTrue(reloaded.isFailure());
+        assertEquals(2, loads.get());
+        assertEquals(2, cache.stats().loadFailureCount());
+    }
+
+    @Test
+    public void doesNotCacheFailuresWithZeroTtl() {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::parse, 10, Duration.ZERO);
+
+        //When
+        cache.get("two");
+        cache.get("two");
+
+        //Then
+        assertEquals(2, loads.get());
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    public void expiresSuccessesAfterTheirTtl() throws InterruptedException {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::parse, 10, Duration.ofMillis(20), Duration.ZERO);
+        cache.get("2");
+
+        //When
+        Thread.sleep(40);
+        cache.get("2");
+
+        //Then
+        assertEquals(2, loads.get());
+    }
+
+    @Test
+    public void evictsTheLeastRecentlyUsedEntryWhenFull() {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::parse, 1, Duration.ofMinutes(1));
+        cache.get("1");
+        cache.get("2");
+
+        //When
+        cache.get("2");
+        cache.get("1");
+
+        //Then
+        assertEquals(1, cache.size());
+        assertEquals(3, loads.get());
+        assertEquals(2, cache.stats().evictionCount());
+    }
+
+    @Test
+    public void invalidatedKeysAreLoadedAgain() {
+        //Given
+        TryCache<String, Integer> cache = TryCache.of(this::parse, 10, Duration.ofMinutes(1));
+        cache.get("2");
+
+        //When
+        cache.invalidate("2");
+        cache.get("2");
+
+        //Then
+        assertEquals(2, loads.get());
+    }
+}
@@ -0,0 +1,93 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Predicate;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryCollectorsSpecs {
+
+    private static final FunctionThrowsException<String, String, Exception> capitalize = TrySpecsUtil::capitalize;
+
+    private static Stream<Try<String>> tries() {
+        return Stream.of("Hello", null, "dance", null, "hi").map(s -> Try.with(capitalize, s));
+    }
+
+    @Test
+    public void partitionsSuccessesAndFailuresInOnePass() {
+        //Given-When
+        TryCollectors.Partition<String> partition = tries().collect(TryCollectors.partitioning());
+
+        //Then
+        assertEquals(Arrays.asList("HELLO", "DANCE", "HI"), partition.successes());
+        assertEquals(2, partition.failures().size());
+        assertEquals("null", partition.failures().get(0).getMessage());
+    }
+
+    @Test
+    public void partitionsParallelStreamsInEncounterOrder() {
+        //Given
+        List<Integer> numbers = IntStream.range(0, 10_000).boxed().collect(Collectors.toList());
+        Predicate<Integer> notMultipleOf3 = x -> x % 3 != 0;
+
+        //When
+        TryCollectors.Partition<Integer> partition = numbers.parallelStream()
+                .map(x -> Try.with(notMultipleOf3, x))
+                .collect(TryCollectors.partitioning(numbers.size()));
+
+        //Then
+        assertEquals(6_666, partition.successes().size());
+        assertEquals(3_334, partition.failures().size());
+        assertEquals(Integer.valueOf(1), partition.successes().get(0));
+        assertEquals(Integer.valueOf(9_998), partition.successes().get(partition.successes().size() - 1));
+    }
+
+    @Test
+    public void collectsOnlySuccessfulValues() {
+        assertEquals(Arrays.asList("HELLO", "DANCE", "HI"), tries().collect(TryCollectors.successes()));
+    }
+
+    @Test
+    public void countsSuccessesAndFailures() {
+        //Given-When
+        TryCollectors.Counts counts = tries().parallel().collect(TryCollectors.counting());
+
+        //Then
+        assertEquals(3, counts.successes());
+        assertEquals(2, counts.failures());
+        assertEquals(5, counts.total());
+    }
+
+    @Test
+    public void collectsValuesWhenAllSucceed() {
+        //Given-When
+        Try<List<String>> values = Stream.of("a", "b").map(s -> Try.with(capitalize, s)).collect(TryCollectors.toTry());
+
+        //Then
+        assertEquals(Arrays.asList("A", "B"), values.get());
+    }
+
+    @Test
+    public void collectsFirstFailureInEncounterOrder() {
+        //Given
+        List<Try<Integer>> tries = IntStream.range(0, 10_000)
+                .mapToObj(x -> Try.with((Supplier<Integer>) () -> 100 / (x % 5_000 - 4_000)))
+                .collect(Collectors.toList());
+
+        //When
+        Try<List<Integer>> values = tries.parallelStream().collect(TryCollectors.toTry());
+
+        //Then
+        assertSame(tries.get(4_000), values);
+    }
+}
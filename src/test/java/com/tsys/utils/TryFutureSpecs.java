@@ -0,0 +1,207 @@
+package com.tsys.utils;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryFutureSpecs {
+
+    private final ExecutorService pool = Executors.newFixedThreadPool(2);
+
+    @After
+    public void shutdownPool() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    public void completesToSuccess() {
+        //Given-When
+        TryFuture<Integer> future = TryFuture.with((SupplierThrowsException<Integer, Exception>) () -> 2, pool);
+
+        //Then
+        assertEquals(Integer.valueOf(2), future.get().get());
+    }
+
+    @Test
+    public void completesToFailureWhenSupplierThrows() {
+        //Given-When
+        TryFuture<String> future = TryFuture.with(TrySpecsUtil::methodAlwaysThrows, pool);
+
+        //Then
+        assertTrue(future.get().isFailure());
+    }
+
+    @Test
+    public void completesToFailureWhenTheExecutorRejectsTheTask() {
+        //Given
+        ExecutorService shutDown = Executors.newSingleThreadExecutor();
+        shutDown.shutdown();
+
+        //When
+        TryFuture<Integer> supplied = TryFuture.with((SupplierThrowsException<Integer, Exception>) () -> 2, shutDown);
+        TryFuture<String> applied = TryFuture.with(TrySpecsUtil::capitalize, "Hello", shutDown);
+
+        //Then
+        assertTrue(supplied.get().<Throwable>recover(t -> t).get() instanceof RejectedExecutionException);
+        assertTrue(applied.get().<Throwable>recover(t -> t).get() instanceof RejectedExecutionException);
+    }
+
+    @Test
+    public void mapsAndFlatMapsSuccess() {
+        //Given
+        FunctionThrowsException<String, String, Exception> capitalize = TrySpecsUtil::capitalize;
+
+        //When
+        TryFuture<Integer> future = TryFuture.with(capitalize, "Hello", pool)
+                .flatMap(s -> TryFuture.with(capitalize, s + "!", pool), pool)
+                .map(String::length, pool);
+
+        //Then
+        assertEquals(Integer.valueOf(6), future.get().get());
+    }
+
+    @Test
+    public void recoversFailure() {
+        //Given
+        TryFuture<String> failure = TryFuture.with(TrySpecsUtil::methodAlwaysThrows, pool);
+
+        //When
+        TryFuture<String> recovered = failure.recover(Throwable::getMessage, pool);
+
+        //Then
+        assertEquals("failure", recovered.get().get());
+    }
+
+    @Test
+    public void recoversWithAnotherFutureWithoutBlocking() throws InterruptedException {
+        //Given
+        CountDownLatch release = new CountDownLatch(1);
+        TryFuture<String> slowFallback = TryFuture.with(() -> {
+            release.await();
+            return "fallback";
+        }, pool);
+
+        //When
+        TryFuture<String> recovered = TryFuture.with(TrySpecsUtil::methodAlwaysThrows, pool)
+                .recoverWith(t -> slowFallback, pool);
+
+        //Then
+        assertFalse(recovered.isDone());
+        release.countDown();
+        assertEquals("fallback", recovered.get().get());
+    }
+
+    @Test
+    public void completesToFailureInsteadOfThrowingFatalErrors() {
+        //Given-When
+        TryFuture<Integer> future = TryFuture.with((SupplierThrowsException<Integer, Exception>) () -> {
+            throw new OutOfMemoryError();
+        }, pool);
+
+        //Then
+        assertTrue(future.get().isFailure());
+        assertTrue(future.toCompletableFuture().join().isFailure());
+    }
+
+    @Test
+    public void completesWithinTimeoutToTheOutcome() {
+        //Given-When
+        Try<Integer> result = Try.withTimeout(() -> 2, Duration.ofSeconds(10), pool);
+
+        //Then
+        assertEquals(Integer.valueOf(2), result.get());
+    }
+
+    @Test
+    public void timesOutAndInterruptsTheSupplier() throws InterruptedException {
+        //Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //When
+        Try<Integer> result = Try.withTimeout(() -> {
+            try {
+                Thread.sleep(10_000);
+                return 2;
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        }, Duration.ofMillis(20), pool);
+
+        //Then
+        assertTrue(result.<Throwable>recover(t -> t).get() instanceof TimeoutException);
+        interrupted.await();
+    }
+
+    @Test
+    public void hedgeDoesNotStartAlternativesWhenTheFirstIsFast() {
+        //Given
+        AtomicInteger backups = new AtomicInteger();
+
+        //When
+        Try<String> result = Try.hedge(Duration.ofSeconds(10), () -> "primary", () -> "backup" + backups.incrementAndGet());
+
+        //Then
+        assertEquals("primary", result.get());
+        assertEquals(0, backups.get());
+    }
+
+    @Test
+    public void hedgeStartsTheNextAlternativeAfterTheDelayAndCancelsTheLoser() throws InterruptedException {
+        //Given
+        CountDownLatch interrupted = new CountDownLatch(1);
+
+        //When
+        Try<String> result = TryFuture.hedge(Duration.ofMillis(20), pool, () -> {
+            try {
+                Thread.sleep(10_000);
+                return "slow";
+            } catch (InterruptedException e) {
+                interrupted.countDown();
+                throw e;
+            }
+        }, () -> "backup").get();
+
+        //Then
+        assertEquals("backup", result.get());
+        interrupted.await();
+    }
+
+    @Test
+    public void hedgeStartsTheNextAlternativeAsSoonAsOneFails() {
+        //Given-When
+        Try<String> result = TryFuture.hedge(Duration.ofSeconds(10), pool,
+                () -> { throw new IllegalStateException("down"); }, () -> "backup").get();
+
+        //Then
+        assertEquals("backup", result.get());
+    }
+
+    @Test
+    public void hedgeFailsWithEveryFailureWhenAllAlternativesFail() {
+        //Given-When
+        Try<String> result = Try.hedge(Duration.ZERO,
+                () -> { throw new IllegalStateException("one"); },
+                () -> { throw new IllegalArgumentException("two"); });
+
+        //Then
+        Throwable failure = result.<Throwable>recover(t -> t).get();
+        assertTrue(failure instanceof ExecutionException);
+        assertEquals(2, failure.getSuppressed().length);
+        assertTrue(failure.getSuppressed()[0] instanceof IllegalStateException);
+        assertTrue(failure.getSuppressed()[1] instanceof IllegalArgumentException);
+    }
+}
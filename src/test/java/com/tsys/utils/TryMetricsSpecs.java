@@ -0,0 +1,128 @@
+package com.tsys.utils;
+
+import org.junit.After;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryMetricsSpecs {
+
+    private final TryMetricsRegistry registry = new TryMetricsRegistry();
+
+    @After
+    public void uninstall() {
+        Try.metrics(null);
+    }
+
+    @Test
+    public void recordsNothingUnlessInstalled() {
+        //Given-When
+        Try.with("parse", () -> Integer.parseInt("2"));
+
+        //Then
+        assertTrue(registry.names().isEmpty());
+    }
+
+    @Test
+    public void countsSuccessesAndFailuresByNameAndExceptionClass() {
+        //Given
+        Try.metrics(registry);
+
+        //When
+        Try.with("parse", () -> Integer.parseInt("2"));
+        Try.with("parse", () -> Integer.parseInt("two"));
+        Try.with("parse", () -> Integer.parseInt(null));
+        Try.with((Supplier<Integer>) () -> 2 / 0);
+
+        //Then
+        TryMetricsRegistry.Snapshot parse = registry.snapshot("parse");
+        assertEquals(1, parse.successCount());
+        assertEquals(2, parse.failureCount());
+        assertEquals(Long.valueOf(2), parse.failuresByClass().get(NumberFormatException.class));
+        assertEquals(3, parse.latency().count());
+        assertEquals(Long.valueOf(1), registry.snapshot("Try.with").failuresByClass().get(ArithmeticException.class));
+    }
+
+    @Test
+    public void recordsCombinatorsThatRunUserCode() {
+        //Given
+        Try.metrics(registry);
+        Try<Integer> success = Success.valueOf(2);
+        Try<Integer> failure = new Failure<>(new IllegalStateException());
+
+        //When
+        success.map(x -> x + 1);
+        success.filter(x -> x > 2);
+        failure.recover(t -> 0);
+        failure.map(x -> x + 1);
+
+        //Then
+        assertEquals(1, registry.snapshot("Success.map").successCount());
+        assertEquals(1, registry.snapshot("Success.filter").failureCount());
+        assertEquals(1, registry.snapshot("Failure.recover").successCount());
+        assertFalse(registry.names().contains("Failure.map"));
+    }
+
+    @Test
+    public void failingMetricsDoNotChangeTheOutcome() {
+        //Given
+        AtomicInteger calls = new AtomicInteger();
+        Try.metrics(new TryMetrics() {
+            @Override
+            public void recordSuccess(String name, long nanos) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("sink down");
+            }
+
+            @Override
+            public void recordFailure(String name, Throwable cause, long nanos) {
+                calls.incrementAndGet();
+                throw new IllegalStateException("sink down");
+            }
+        });
+
+        //When
+        Try<Integer> with = Try.with((Supplier<Integer>) () -> 2);
+        Try<Integer> mapped = with.map(x -> x + 1);
+        Try<Integer> recovered = new Failure<Integer>(new IllegalArgumentException()).recover(t -> 0);
+
+        //Then
+        assertEquals(Integer.valueOf(2), with.get());
+        assertEquals(Integer.valueOf(3), mapped.get());
+        assertEquals(Integer.valueOf(0), recovered.get());
+        assertEquals(3, calls.get());
+    }
+
+    @Test
+    public void histogramReportsPercentilesWithinABucket() {
+        //Given
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        //When
+        for (long nanos = 1; nanos <= 1000; nanos++) histogram.record(nanos * 1000);
+
+        //Then
+        LatencyHistogram.Snapshot snapshot = histogram.snapshot();
+        assertEquals(1000, snapshot.count());
+        assertEquals(500_000, snapshot.p50(), 500_000 * 0.125);
+        assertEquals(990_000, snapshot.p99(), 990_000 * 0.125);
+        assertEquals(999_000, snapshot.p999(), 999_000 * 0.125);
+        assertTrue(snapshot.p999() >= 999_000);
+    }
+
+    @Test
+    public void histogramBucketsCoverEveryValue() {
+        //Given-When-Then
+        for (long value : new long[] { 0, 7, 8, 15, 16, 1023, 1024, Long.MAX_VALUE }) {
+            int bucket = LatencyHistogram.bucket(value);
+            assertTrue(value <= LatencyHistogram.highestValue(bucket));
+            assertTrue(bucket == 0 || value > LatencyHistogram.highestValue(bucket - 1));
+        }
+    }
+}
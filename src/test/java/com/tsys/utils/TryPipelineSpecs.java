@@ -0,0 +1,94 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.function.Supplier;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryPipelineSpecs {
+
+    private static final FunctionThrowsException<String, Integer, NumberFormatException> parse = Integer::parseInt;
+
+    private static final TryPipeline<String, Integer> pipeline =
+            TryPipeline.with(parse)
+                    .recover(t -> 2)
+                    .map(x -> 100 / x)
+                    .filter(x -> x > 10)
+                    .recover(t -> -1);
+
+    private static Try<Integer> chained(String s) {
+        return Try.with(parse, s)
+                .recover(t -> 2)
+                .map(x -> 100 / x)
+                .filter(x -> x > 10)
+                .recover(t -> -1);
+    }
+
+    @Test
+    public void producesTheSameOutcomeAsChainingByHand() {
+        for (String input : Arrays.asList("1", "0", "50", "not-a-number")) {
+            assertEquals(chained(input).get(), pipeline.apply(input).get());
+        }
+    }
+
+    @Test
+    public void isReusableAcrossInputs() {
+        assertEquals(Integer.valueOf(100), pipeline.apply("1").get());
+        assertEquals(Integer.valueOf(50), pipeline.apply("oops").get());
+        assertEquals(Integer.valueOf(-1), pipeline.apply("0").get());
+    }
+
+    @Test
+    public void passesFailureOnDownTheChain() {
+        //Given
+        TryPipeline<String, Integer> unrecovered = TryPipeline.with(parse).map(x -> x * 2);
+
+        //When
+        Try<Integer> failure = unrecovered.apply("oops");
+
+        //Then
+        assertTrue(failure.isFailure());
+        assertTrue(failure.<Throwable>recover(t -> t).get() instanceof NumberFormatException);
+    }
+
+    @Test
+    public void failsWithSharedFailureWhenPredicateDoesNotHold() {
+        //Given
+        TryPipeline<Integer, Integer> positive = TryPipeline.<Integer>identity().filter(x -> x > 0);
+
+        //When-Then
+        assertSame(Failure.predicateDoesNotHold(), positive.apply(-1));
+    }
+
+    @Test
+    public void flatMapsAndRecoversWithTries() {
+        //Given
+        TryPipeline<Integer, Integer> halve = TryPipeline.<Integer>identity()
+                .flatMap(x -> Try.with((Supplier<Integer>) () -> 10 / x))
+                .recoverWith(t -> Try.with((Supplier<Integer>) () -> 0));
+
+        //When-Then
+        assertEquals(Integer.valueOf(5), halve.apply(2).get());
+        assertEquals(Integer.valueOf(0), halve.apply(0).get());
+    }
+
+    @Test
+    public void returnsTheTryProducedByTheLastFlatMap() {
+        //Given
+        Try<Integer> produced = new Success<>(1000);
+        TryPipeline<Integer, Integer> pipeline = TryPipeline.<Integer>identity().flatMap(x -> produced);
+
+        //When-Then
+        assertSame(produced, pipeline.apply(1));
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void throwsFatalExceptions() {
+        TryPipeline.<Integer>identity().map(x -> { throw new OutOfMemoryError(); }).apply(1);
+    }
+}
@@ -0,0 +1,185 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryPoolSpecs {
+
+    private final AtomicInteger created = new AtomicInteger();
+
+    private class Resource implements AutoCloseable {
+        private final int id = created.incrementAndGet();
+        private volatile boolean closed;
+
+        @Override
+        public void close() {
+            closed = true;
+        }
+    }
+
+    @Test
+    public void reusesAReleasedResource() {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, 2, Duration.ZERO);
+        Resource first = pool.acquire().get();
+        pool.release(first);
+
+        //When
+        Resource second = pool.acquire().get();
+
+        //Then
+        assertSame(first, second);
+        assertEquals(1, created.get());
+    }
+
+    @Test
+    public void failsFastOnceFull() {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, 2, Duration.ZERO);
+        pool.acquire();
+        pool.acquire();
+
+        //When
+        Try<Resource> exhausted = pool.acquire();
+
+        //Then
+        assertSame(TryPool.POOL_EXHAUSTED, exhausted.<Throwable>recover(t -> t).get());
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    public void waitingCallerIsHandedAReleasedResource() throws InterruptedException {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, 1, Duration.ofSeconds(10));
+        Resource held = pool.acquire().get();
+        AtomicReference<Try<Resource>> handedOver = new AtomicReference<>();
+        Thread waiter = new Thread(() -> handedOver.set(pool.acquire()));
+        waiter.start();
+        while (waiter.getState() != Thread.State.TIMED_WAITING) Thread.sleep(1);
+
+        //When
+        pool.release(held);
+        waiter.join();
+
+        //Then
+        assertSame(held, handedOver.get().get());
+    }
+
+    @Test
+    public void replacesResourcesThatFailValidation() {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, r -> !r.closed, 1, Duration.ZERO, Duration.ofMinutes(1));
+        Resource broken = pool.acquire().get();
+        broken.closed = true;
+        pool.release(broken);
+
+        //When
+        Resource replacement = pool.acquire().get();
+
+        //Then
+        assertNotSame(broken, replacement);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void evictsIdleResources() throws InterruptedException {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, r -> true, 2, Duration.ZERO, Duration.ofMillis(10));
+        Resource idle = pool.acquire().get();
+        Resource busy = pool.acquire().get();
+        pool.release(idle);
+        Thread.sleep(20);
+
+        //When
+        int evicted = pool.evictIdle();
+
+        //Then
+        assertEquals(1, evicted);
+        assertTrue(idle.closed);
+        assertFalse(busy.closed);
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    public void withResourceReleasesEvenWhenTheFunctionFails() {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, 1, Duration.ZERO);
+
+        //When
+        Try<Integer> failed = pool.withResource(r -> r.id / 0);
+        Try<Integer> succeeded = pool.withResource(r -> r.id);
+
+        //Then
+        assertTrue(failed.isFailure());
+        assertEquals(Integer.valueOf(1), succeeded.get());
+        assertEquals(1, pool.idle());
+    }
+
+    @Test
+    public void failedCreationDoesNotTakeASlot() {
+        //Given
+        AtomicInteger attempts = new AtomicInteger();
+        TryPool<Resource> pool = TryPool.of(() -> {
+            if (attempts.incrementAndGet() == 1)
+                throw new IllegalStateException("backend down");
+            return new Resource();
+        }, 1, Duration.ZERO);
+
+        //When
+        Try<Resource> failed = pool.acquire();
+        Try<Resource> created = pool.acquire();
+
+        //Then
+        assertTrue(failed.isFailure());
+        assertTrue(created.isSuccess());
+    }
+
+    @Test
+    public void closingClosesFreeResourcesNowAndBusyOnesOnRelease() {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, 2, Duration.ZERO);
+        Resource free = pool.acquire().get();
+        Resource busy = pool.acquire().get();
+        pool.release(free);
+
+        //When
+        pool.close();
+
+        //Then
+        assertTrue(free.closed);
+        assertFalse(busy.closed);
+        pool.release(busy);
+        assertTrue(busy.closed);
+        assertTrue(pool.acquire().isFailure());
+    }
+
+    @Test
+    public void waitingCallerCreatesAResourceWhenTheHandedOverOneIsInvalid() throws InterruptedException {
+        //Given
+        TryPool<Resource> pool = TryPool.of(Resource::new, r -> !r.closed, 1, Duration.ofSeconds(10), Duration.ofMinutes(1));
+        Resource held = pool.acquire().get();
+        AtomicReference<Try<Resource>> acquired = new AtomicReference<>();
+        Thread waiter = new Thread(() -> acquired.set(pool.acquire()));
+        waiter.start();
+        while (waiter.getState() != Thread.State.TIMED_WAITING) Thread.sleep(1);
+
+        //When
+        held.closed = true;
+        pool.release(held);
+        waiter.join();
+
+        //Then
+        assertTrue(acquired.get().isSuccess());
+        assertNotSame(held, acquired.get().get());
+        assertEquals(1, pool.size());
+    }
+}
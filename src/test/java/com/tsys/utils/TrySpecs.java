@@ -4,11 +4,16 @@ import org.junit.Test;
 import org.junit.runner.RunWith;
 import org.junit.runners.JUnit4;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.NoSuchElementException;
 import java.util.Optional;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
+import java.util.stream.IntStream;
 import java.util.zip.ZipError;
 
 import static org.junit.Assert.*;
@@ -641,5 +646,225 @@ public class TrySpecs {
 
         assertFalse(Try.fatal(new StackOverflowError()));
     }
+
+    @Test
+    public void lightweightFailureRethrowsOriginalThrowable() {
+        //Given
+        ArithmeticException cause = new ArithmeticException("/ by zero");
+        Try<Integer> failure = new Failure<>(cause, FailureMode.LIGHTWEIGHT);
+
+        //When
+        try {
+            failure.get();
+            fail("Cannot retrieve value from failure");
+        } catch (ArithmeticException e) {
+            //Then
+            assertSame(cause, e);
+        }
+    }
+
+    @Test
+    public void failuresUseTheConfiguredFailureMode() {
+        Try.failureMode(FailureMode.LIGHTWEIGHT);
+        try {
+            //Given-When
+            Try<Integer> failure = Try.with(divisionByZero);
+
+            //Then
+            assertEquals(FailureMode.LIGHTWEIGHT, ((Failure<Integer>) failure).mode());
+        } finally {
+            Try.failureMode(FailureMode.WRAPPED);
+        }
+    }
+
+    @Test
+    public void lightweightPredicateFailureDoesNotCaptureStackTrace() {
+        Try.failureMode(FailureMode.LIGHTWEIGHT);
+        try {
+            //Given
+            Try<Integer> success = Try.with((Supplier<Integer>) () -> 2);
+
+            //When
+            Try<Integer> filtered = success.filter(x -> false);
+
+            //Then
+            Throwable cause = filtered.<Throwable>recover(t -> t).get();
+            assertTrue(cause instanceof NoSuchElementException);
+            assertEquals(0, cause.getStackTrace().length);
+        } finally {
+            Try.failureMode(FailureMode.WRAPPED);
+        }
+    }
+
+    @Test
+    public void failuresOfPredicatesAreSharedButHandOutAFreshStacklessCause() {
+        //Given
+        Try<Integer> success = Try.with((Supplier<Integer>) () -> 2);
+
+        //When
+        Try<Integer> filtered = success.filter(x -> false);
+        Try<String> predicated = Try.with((Predicate<String>) s -> false, "Hello");
+
+        //Then
+        assertSame(filtered, predicated);
+        Throwable recovered = filtered.<Throwable>recover(t -> t).get();
+        assertTrue(recovered instanceof NoSuchElementException);
+        assertNotSame(Failure.PREDICATE_DOES_NOT_HOLD, recovered);
+        assertEquals(0, recovered.getStackTrace().length);
+    }
+
+    @Test
+    public void gettingAFailedPredicateDoesNotThrowTheSharedCause() {
+        //Given
+        Try.failureMode(FailureMode.LIGHTWEIGHT);
+        try {
+            Try<Integer> filtered = Try.with((Supplier<Integer>) () -> 2).filter(x -> false);
+
+            //When
+            try {
+                filtered.get();
+                fail("expected a NoSuchElementException");
+            } catch (NoSuchElementException e) {
+                e.addSuppressed(new IllegalStateException("closing failed"));
+
+                //Then
+                assertNotSame(Failure.PREDICATE_DOES_NOT_HOLD, e);
+                assertEquals(0, e.getStackTrace().length);
+            }
+            assertEquals(0, Failure.PREDICATE_DOES_NOT_HOLD.getSuppressed().length);
+        } finally {
+            Try.failureMode(FailureMode.WRAPPED);
+        }
+    }
+
+    @Test
+    public void wrappedFailureOfAPredicateDoesNotCarryTheSharedCause() {
+        //Given
+        Try<Integer> filtered = Try.with((Supplier<Integer>) () -> 2).filter(x -> false);
+
+        //When
+        try {
+            filtered.get();
+            fail("expected a RuntimeException");
+        } catch (RuntimeException e) {
+            e.getCause().addSuppressed(new IllegalStateException("closing failed"));
+
+            //Then
+            assertTrue(e.getCause() instanceof NoSuchElementException);
+            assertNotSame(Failure.PREDICATE_DOES_NOT_HOLD, e.getCause());
+        }
+        assertEquals(0, Failure.PREDICATE_DOES_NOT_HOLD.getSuppressed().length);
+    }
+
+    @Test
+    public void commonSuccessValuesAreShared() {
+        assertSame(Success.valueOf(null), Try.unit());
+        assertSame(Success.valueOf(Boolean.TRUE), Try.with((Supplier<Boolean>) () -> true));
+        assertSame(Success.valueOf(42), Try.with((Supplier<Integer>) () -> 42));
+        assertNotSame(Success.valueOf(1000), Success.valueOf(1000));
+    }
+
+    @Test
+    public void sharedSuccessKeepsIdentityOfItsValue() {
+        //Given
+        Integer uncached = new Integer(42);
+
+        //When
+        Try<Integer> success = Success.valueOf(uncached);
+
+        //Then
+        assertSame(uncached, success.get());
+    }
+
+    @Test
+    public void evaluatesSupplierOnAnotherThread() {
+        //Given
+        Thread caller = Thread.currentThread();
+
+        //When
+        Try<Thread> worker = Try.onVirtualThread(Thread::currentThread).get();
+
+        //Then
+        assertNotSame(caller, worker.get());
+    }
+
+    @Test
+    public void evaluatesBatchOfSuppliersInOrder() {
+        //Given
+        List<SupplierThrowsException<String, Exception>> suppliers =
+                Arrays.asList(() -> "one", TrySpecsUtil::methodAlwaysThrows, () -> "three");
+
+        //When
+        List<Try<String>> outcomes = Try.onVirtualThreads(suppliers);
+
+        //Then
+        assertEquals("one", outcomes.get(0).get());
+        assertTrue(outcomes.get(1).isFailure());
+        assertEquals("three", outcomes.get(2).get());
+    }
+
+    @Test
+    public void sequencesSuccessesIntoSuccessOfList() {
+        //Given
+        List<Try<Integer>> tries = Arrays.asList(Success.valueOf(1), Success.valueOf(2), Success.valueOf(3));
+
+        //When
+        Try<List<Integer>> sequenced = Try.sequence(tries);
+
+        //Then
+        assertEquals(Arrays.asList(1, 2, 3), sequenced.get());
+    }
+
+    @Test
+    public void sequenceReturnsFirstFailure() {
+        //Given
+        Try<Integer> failure = Try.with(divisionByZero);
+        List<Try<Integer>> tries = Arrays.asList(Success.valueOf(1), failure, Try.with(divisionByZero));
+
+        //When-Then
+        assertSame(failure, Try.sequence(tries));
+    }
+
+    @Test
+    public void traversesInputsWithFunctionThrowingException() {
+        //Given
+        FunctionThrowsException<String, String, Exception> capitalize = TrySpecsUtil::capitalize;
+
+        //When
+        Try<List<String>> traversed = Try.traverse(Arrays.asList("Hello", "dance"), capitalize);
+
+        //Then
+        assertEquals(Arrays.asList("HELLO", "DANCE"), traversed.get());
+    }
+
+    @Test
+    public void traverseStopsAtFirstFailure() {
+        //Given
+        List<String> applied = new ArrayList<>();
+        FunctionThrowsException<String, String, Exception> capitalize = s -> {
+            applied.add(s);
+            return TrySpecsUtil.capitalize(s);
+        };
+
+        //When
+        Try<List<String>> traversed = Try.traverse(Arrays.asList("Hello", null, "dance"), capitalize);
+
+        //Then
+        assertTrue(traversed.isFailure());
+        assertEquals(Arrays.asList("Hello", null), applied);
+    }
+
+    @Test
+    public void traversesIterablesOfUnknownSize() {
+        //Given
+        Iterable<Integer> naturals = () -> IntStream.range(0, 100).iterator();
+
+        //When
+        Try<List<Integer>> traversed = Try.traverse(naturals, x -> x * 2);
+
+        //Then
+        assertEquals(100, traversed.get().size());
+        assertEquals(Integer.valueOf(198), traversed.get().get(99));
+    }
 }
 
@@ -0,0 +1,103 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryStreamSpecs {
+
+    private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+    @Test
+    public void mapsWithFunctionThrowingExceptionAndSendsFailuresToSink() {
+        //Given-When
+        List<String> capitalized = TryStream.of(Stream.of("Hello", null, "dance"), failures::add)
+                .mapTry(TrySpecsUtil::capitalize)
+                .collect(Collectors.toList());
+
+        //Then
+        assertEquals(Arrays.asList("HELLO", "DANCE"), capitalized);
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void filtersWithPredicateThrowingException() {
+        //Given-When
+        List<String> filtered = TryStream.of(Stream.of("Hello", null, "hi"), failures::add)
+                .filterTry(TrySpecsUtil::gte5)
+                .collect(Collectors.toList());
+
+        //Then
+        assertEquals(Arrays.asList("Hello"), filtered);
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void dropsElementsTheConsumerFailsOn() {
+        //Given
+        ConsumerThrowsException<String, Exception> validate = TrySpecsUtil::capitalize;
+
+        //When
+        long valid = TryStream.of(Stream.of("Hello", null, null), failures::add)
+                .peekTry(validate)
+                .toStream()
+                .count();
+
+        //Then
+        assertEquals(1, valid);
+        assertEquals(2, failures.size());
+    }
+
+    @Test
+    public void consumesEachElementWithConsumerThrowingException() {
+        //Given
+        StringBuilder result = new StringBuilder();
+
+        //When
+        TryStream.of(Stream.of("a", null, "b"), failures::add)
+                .forEachTry(s -> result.append(TrySpecsUtil.capitalize(s)));
+
+        //Then
+        assertEquals("AB", result.toString());
+        assertEquals(1, failures.size());
+    }
+
+    @Test
+    public void worksForParallelStreams() {
+        //Given
+        FunctionThrowsException<Integer, Integer, Exception> evenOnly = x -> {
+            if (x % 2 != 0)
+                throw new Exception("odd");
+            return x;
+        };
+
+        //When
+        int sum = TryStream.of(IntStream.range(0, 10_000).boxed().parallel(), failures::add)
+                .mapTry(evenOnly)
+                .toStream()
+                .mapToInt(Integer::intValue)
+                .sum();
+
+        //Then
+        assertEquals(24_995_000, sum);
+        assertEquals(5_000, failures.size());
+    }
+
+    @Test(expected = RuntimeException.class)
+    public void throwsFatalExceptions() {
+        TryStream.of(Stream.of(1))
+                .mapTry(x -> { throw new OutOfMemoryError(); })
+                .collect(Collectors.toList());
+    }
+}
@@ -0,0 +1,91 @@
+package com.tsys.utils;
+
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.junit.runners.JUnit4;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.Assert.*;
+
+@RunWith(JUnit4.class)
+public class TryWithResourcesSpecs {
+
+    private final List<String> closed = new ArrayList<>();
+
+    private class Resource implements AutoCloseable {
+        private final String name;
+        private final boolean failsToClose;
+
+        Resource(String name, boolean failsToClose) {
+            this.name = name;
+            this.failsToClose = failsToClose;
+        }
+
+        @Override
+        public void close() throws IOException {
+            closed.add(name);
+            if (failsToClose)
+                throw new IOException("cannot close " + name);
+        }
+    }
+
+    @Test
+    public void appliesTheBodyAndClosesTheResource() {
+        //Given-When
+        Try<String> result = Try.withResources(() -> new Resource("one", false), r -> r.name.toUpperCase());
+
+        //Then
+        assertEquals("ONE", result.get());
+        assertEquals(1, closed.size());
+    }
+
+    @Test
+    public void closesResourcesInReverseOrder() {
+        //Given-When
+        Try<String> result = Try.withResources(() -> new Resource("one", false), () -> new Resource("two", false),
+                (one, two) -> one.name + two.name);
+
+        //Then
+        assertEquals("onetwo", result.get());
+        assertEquals("two", closed.get(0));
+        assertEquals("one", closed.get(1));
+    }
+
+    @Test
+    public void attachesCloseFailuresToTheBodyFailureAsSuppressed() {
+        //Given-When
+        Try<String> result = Try.withResources(() -> new Resource("one", true), () -> new Resource("two", true),
+                (one, two) -> { throw new IllegalStateException("body"); });
+
+        //Then
+        Throwable failure = result.<Throwable>recover(t -> t).get();
+        assertEquals("body", failure.getMessage());
+        assertEquals(2, failure.getSuppressed().length);
+        assertEquals("cannot close two", failure.getSuppressed()[0].getMessage());
+    }
+
+    @Test
+    public void failsWhenOnlyClosingFails() {
+        //Given-When
+        Try<String> result = Try.withResources(() -> new Resource("one", true), r -> r.name);
+
+        //Then
+        assertEquals("cannot close one", result.<Throwable>recover(t -> t).get().getMessage());
+    }
+
+    @Test
+    public void closesTheFirstResourceWhenOpeningTheSecondFromItFails() {
+        //Given-When
+        Try<String> result = Try.withResources(() -> new Resource("one", false),
+                one -> { if (one != null) throw new IllegalStateException("cannot open two"); return new Resource("two", false); },
+                (one, two) -> one.name + two.name);
+
+        //Then
+        assertTrue(result.isFailure());
+        assertEquals(1, closed.size());
+        assertEquals("one", closed.get(0));
+    }
+}